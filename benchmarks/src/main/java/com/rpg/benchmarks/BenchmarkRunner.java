@@ -0,0 +1,34 @@
+package com.rpg.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            Path resultFile = Path.of("benchmark-results", "jmh-" + version() + ".json");
+            Files.createDirectories(resultFile.getParent());
+            options.result(resultFile.toString());
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String version() {
+        String label = System.getProperty("rpg.benchmark.label");
+        if (label != null && !label.isBlank()) {
+            return label;
+        }
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version;
+    }
+}
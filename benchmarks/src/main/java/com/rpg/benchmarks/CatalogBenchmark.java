@@ -0,0 +1,50 @@
+package com.rpg.benchmarks;
+
+import com.rpg.MagicSpellCatalog;
+import com.rpg.Spell;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogBenchmark {
+    private final MagicSpellCatalog spellCatalog = new MagicSpellCatalog();
+
+    @Benchmark
+    public List<Spell> getAllSpells() {
+        return spellCatalog.getAllSpells();
+    }
+
+    @Benchmark
+    public List<Spell> getSpellsUpToLevel() {
+        return spellCatalog.getSpellsUpToLevel(20);
+    }
+
+    @Benchmark
+    public List<Spell> getSpellsByManaCost() {
+        return spellCatalog.getSpellsByManaCost(20, 40);
+    }
+
+    @Benchmark
+    public Spell getSpellByName() {
+        return spellCatalog.getSpellByName("Flame Wall");
+    }
+
+    @Benchmark
+    public List<Spell> buildSpellCatalog() {
+        return new MagicSpellCatalog().getAllSpells();
+    }
+}
@@ -0,0 +1,70 @@
+package com.rpg.benchmarks;
+
+import com.rpg.CombatDirection;
+import com.rpg.CombatOutcome;
+import com.rpg.CombatResult;
+import com.rpg.CombatResultHolder;
+import com.rpg.CombatSystem;
+import com.rpg.Npc;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+    private final CombatSystem combatSystem = new CombatSystem();
+    private final CombatResultHolder holder = new CombatResultHolder();
+    private Npc attacker;
+    private Npc defender;
+
+    @Setup
+    public void setUp() {
+        attacker = new Npc("Stoneveil Gargoyle", 130, 30, 20, 14, 6, true);
+        defender = freshDefender();
+    }
+
+    @Benchmark
+    public CombatResult resolveMeleeAttack() {
+        return combatSystem.resolveMeleeAttack(attacker, target(), CombatDirection.NORTH, CombatDirection.SOUTH);
+    }
+
+    @Benchmark
+    public CombatResult resolveMagicBolt() {
+        return combatSystem.resolveMagicBolt(attacker, target(), CombatDirection.EAST, CombatDirection.EAST);
+    }
+
+    @Benchmark
+    public CombatOutcome resolveMeleeAttackIntoHolder() {
+        return combatSystem.resolveMeleeAttack(
+                attacker,
+                target(),
+                CombatDirection.NORTH,
+                CombatDirection.SOUTH,
+                holder
+        );
+    }
+
+    private Npc target() {
+        if (!defender.isAlive()) {
+            defender = freshDefender();
+        }
+        return defender;
+    }
+
+    private static Npc freshDefender() {
+        return new Npc("Training Dummy", Integer.MAX_VALUE, Integer.MAX_VALUE, 0, 8, 0, false);
+    }
+}
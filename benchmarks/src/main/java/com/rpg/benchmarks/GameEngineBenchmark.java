@@ -0,0 +1,44 @@
+package com.rpg.benchmarks;
+
+import com.rpg.BasicPlannerAgent;
+import com.rpg.GameEngine;
+import com.rpg.GameWorld;
+import com.rpg.NullNarrationSink;
+import com.rpg.Player;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+    private static final int TURNS = 1_000;
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new GameWorld();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public Player runTurns() {
+        Player player = new Player("Benchmark");
+        new GameEngine(world, player, new BasicPlannerAgent(), NullNarrationSink.INSTANCE).run(TURNS);
+        return player;
+    }
+}
@@ -0,0 +1,73 @@
+package com.rpg.benchmarks;
+
+import com.rpg.LoginOutcome;
+import com.rpg.LoginService;
+import com.rpg.PasswordHasher;
+import com.rpg.UserDatabase;
+import com.rpg.UserRecord;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoginLoadTest {
+    public static void main(String[] args) {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int inFlight = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int userCount = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 1_000;
+        int workers = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        int queueDepth = args.length > 5 ? Integer.parseInt(args[5]) : inFlight;
+
+        PasswordHasher hasher = new PasswordHasher(iterations);
+        Map<String, UserRecord> users = new HashMap<>();
+        for (int i = 0; i < userCount; i++) {
+            String username = "user" + i;
+            users.put(username, new UserRecord(username, hasher.encode("pw" + i), "PLAYER"));
+        }
+        UserDatabase userDatabase = username -> Optional.ofNullable(users.get(username.toLowerCase()));
+
+        long[] latencies = new long[requests];
+        AtomicInteger granted = new AtomicInteger();
+        Semaphore permits = new Semaphore(inFlight);
+        try (LoginService loginService = new LoginService(userDatabase, hasher, workers, queueDepth)) {
+            CompletableFuture<?>[] pending = new CompletableFuture<?>[requests];
+            long started = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                int user = i % userCount;
+                String password = i % 10 == 0 ? "wrong" : "pw" + user;
+                permits.acquireUninterruptibly();
+                long submitted = System.nanoTime();
+                pending[i] = loginService.submit("user" + user, password, null).whenComplete((outcome, error) -> {
+                    latencies[request] = System.nanoTime() - submitted;
+                    if (outcome == LoginOutcome.GRANTED) {
+                        granted.incrementAndGet();
+                    }
+                    permits.release();
+                });
+            }
+            CompletableFuture.allOf(pending).join();
+            long elapsed = System.nanoTime() - started;
+
+            Arrays.sort(latencies);
+            double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+            System.out.printf("Logins: %d (%d granted, %d rejected) with %d in flight, %d iterations%n",
+                    requests, granted.get(), loginService.getRejectedCount(), inFlight, iterations);
+            System.out.printf("Throughput: %.0f logins/s%n", requests / seconds);
+            System.out.printf("Latency p50: %.3f ms, p99: %.3f ms, max: %.3f ms%n",
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1_000_000.0);
+        }
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
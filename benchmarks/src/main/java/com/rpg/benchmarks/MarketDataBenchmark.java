@@ -0,0 +1,64 @@
+package com.rpg.benchmarks;
+
+import com.rpg.MarketDataFeed;
+import com.rpg.MarketSnapshot;
+import com.rpg.MarketWindow;
+import com.rpg.Trade;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketDataBenchmark {
+    private static final int TRADES = 1 << 12;
+    private static final String[] ITEMS = {"Ironstone Shard", "Moonlit Herb", "Ember Ore", "Wraith Silk"};
+
+    private final Trade[] trades = new Trade[TRADES];
+    private MarketDataFeed feed;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < TRADES; i++) {
+            trades[i] = new Trade(i, ITEMS[i % ITEMS.length], 900 + random.nextInt(200), 1 + random.nextInt(10),
+                    i, i, i, i, now + i);
+        }
+        feed = new MarketDataFeed("benchmark");
+        for (Trade trade : trades) {
+            feed.onTrade(trade);
+        }
+    }
+
+    @TearDown
+    public void closeFeed() {
+        feed.close();
+    }
+
+    @Benchmark
+    public void recordTrade() {
+        feed.onTrade(trades[next++ & (TRADES - 1)]);
+    }
+
+    @Benchmark
+    public double readVwap() {
+        MarketSnapshot snapshot = feed.getSnapshot(ITEMS[next++ & (ITEMS.length - 1)]);
+        return snapshot.getVwap(MarketWindow.FIVE_MINUTES);
+    }
+}
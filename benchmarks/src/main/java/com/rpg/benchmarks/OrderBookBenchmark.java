@@ -0,0 +1,79 @@
+package com.rpg.benchmarks;
+
+import com.rpg.MatchingEngine;
+import com.rpg.Order;
+import com.rpg.OrderBook;
+import com.rpg.OrderSide;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookBenchmark {
+    private static final int ORDERS = 1 << 16;
+    private static final int ENGINE_BATCH = 10_000;
+    private static final String ITEM = "Ironstone Shard";
+
+    private final OrderSide[] sides = new OrderSide[ORDERS];
+    private final long[] prices = new long[ORDERS];
+    private final int[] quantities = new int[ORDERS];
+    private OrderBook book;
+    private MatchingEngine engine;
+    private int next;
+    private long orderId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < ORDERS; i++) {
+            sides[i] = random.nextBoolean() ? OrderSide.BUY : OrderSide.SELL;
+            prices[i] = 1_000 + random.nextInt(41) - 20;
+            quantities[i] = 1 + random.nextInt(10);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBook() {
+        book = new OrderBook(ITEM);
+        engine = new MatchingEngine("benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeEngine() {
+        engine.close();
+    }
+
+    @Benchmark
+    public int matchOrder() {
+        int i = next++ & (ORDERS - 1);
+        return book.submit(Order.limit(++orderId, i, ITEM, sides[i], prices[i], quantities[i]), null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENGINE_BATCH)
+    public long matchThroughEngine() {
+        for (int n = 0; n < ENGINE_BATCH; n++) {
+            int i = next++ & (ORDERS - 1);
+            engine.placeLimit(i, ITEM, sides[i], prices[i], quantities[i]);
+        }
+        engine.awaitIdle();
+        return engine.getTradeCount();
+    }
+}
@@ -0,0 +1,41 @@
+package com.rpg.benchmarks;
+
+import com.rpg.PasswordHasher;
+import com.rpg.UserRecord;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordKdfBenchmark {
+    @Param({"1000", "10000", "120000", "310000"})
+    private int iterations;
+
+    private PasswordHasher hasher;
+    private UserRecord record;
+
+    @Setup
+    public void setUp() {
+        hasher = new PasswordHasher(iterations);
+        record = new UserRecord("bench", hasher.encode("admin123"), "PLAYER");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hasher.matches("admin123", record);
+    }
+}
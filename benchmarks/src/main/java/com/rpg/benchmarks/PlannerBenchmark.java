@@ -0,0 +1,40 @@
+package com.rpg.benchmarks;
+
+import com.rpg.BasicPlannerAgent;
+import com.rpg.GameWorld;
+import com.rpg.Player;
+import com.rpg.SkillAction;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlannerBenchmark {
+    private final BasicPlannerAgent agent = new BasicPlannerAgent();
+    private GameWorld world;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        world = new GameWorld();
+        player = new Player("Benchmark");
+    }
+
+    @Benchmark
+    public SkillAction chooseAction() {
+        return agent.chooseAction(player, world);
+    }
+}
@@ -0,0 +1,33 @@
+package com.rpg.benchmarks;
+
+import com.rpg.Skill;
+import com.rpg.SkillType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillBenchmark {
+    @Param({"100", "100000", "100000000"})
+    private int experience;
+
+    @Benchmark
+    public Skill addExperience() {
+        Skill skill = new Skill(SkillType.MINING);
+        skill.addExperience(experience);
+        return skill;
+    }
+}
@@ -0,0 +1,69 @@
+package com.rpg.benchmarks;
+
+import com.rpg.SpatialGrid;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialGridBenchmark {
+    private static final double AREA_SIZE = 1024.0;
+    private static final int QUERIES = 1 << 12;
+
+    @Param({"1000", "10000"})
+    private int entityCount;
+
+    private final double[] queryX = new double[QUERIES];
+    private final double[] queryY = new double[QUERIES];
+    private SpatialGrid<Integer> grid;
+    private Integer[] entities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        grid = new SpatialGrid<>(AREA_SIZE, AREA_SIZE, 32.0);
+        entities = new Integer[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = i;
+            grid.insert(entities[i], random.nextDouble() * AREA_SIZE, random.nextDouble() * AREA_SIZE);
+        }
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextDouble() * AREA_SIZE;
+            queryY[i] = random.nextDouble() * AREA_SIZE;
+        }
+    }
+
+    @Benchmark
+    public int rangeQuery() {
+        int i = next++ & (QUERIES - 1);
+        return grid.forEachInRange(queryX[i], queryY[i], 48.0, entity -> { });
+    }
+
+    @Benchmark
+    public Integer nearestQuery() {
+        int i = next++ & (QUERIES - 1);
+        return grid.findNearest(queryX[i], queryY[i], AREA_SIZE, entity -> true);
+    }
+
+    @Benchmark
+    public boolean moveEntity() {
+        int i = next++ & (QUERIES - 1);
+        return grid.move(entities[i % entityCount], queryX[i], queryY[i]);
+    }
+}
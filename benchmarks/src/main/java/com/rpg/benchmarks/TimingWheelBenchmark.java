@@ -0,0 +1,54 @@
+package com.rpg.benchmarks;
+
+import com.rpg.TimingWheel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+    private static final int MAX_DELAY_TICKS = 600;
+
+    @Param({"1000", "100000"})
+    private int effectCount;
+
+    private TimingWheel<int[]> wheel;
+    private Consumer<int[]> reschedule;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        wheel = new TimingWheel<>(effectCount);
+        // Each expiry re-arms itself, keeping effectCount timers live at every tick like recast effects would.
+        reschedule = effect -> wheel.schedule(1 + effect[0] % MAX_DELAY_TICKS, effect);
+        for (int i = 0; i < effectCount; i++) {
+            wheel.schedule(1 + random.nextInt(MAX_DELAY_TICKS), new int[] {random.nextInt(MAX_DELAY_TICKS)});
+        }
+    }
+
+    @Benchmark
+    public int advanceTick() {
+        return wheel.advance(reschedule);
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        return wheel.cancel(wheel.schedule(MAX_DELAY_TICKS, null));
+    }
+}
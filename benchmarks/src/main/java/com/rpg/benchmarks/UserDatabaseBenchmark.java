@@ -0,0 +1,59 @@
+package com.rpg.benchmarks;
+
+import com.rpg.FileUserDatabase;
+import com.rpg.PasswordHasher;
+import com.rpg.UserDatabase;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDatabaseBenchmark {
+    @Param({"1000", "100000"})
+    private int userCount;
+
+    private Path usersFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        usersFile = Files.createTempFile("rpg-users", ".csv");
+        String hash = new PasswordHasher().hash("benchmark");
+        try (BufferedWriter writer = Files.newBufferedWriter(usersFile)) {
+            writer.write("username,password_hash,role");
+            writer.newLine();
+            for (int i = 0; i < userCount; i++) {
+                writer.write("user" + i + "," + hash + ",PLAYER");
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(usersFile);
+    }
+
+    @Benchmark
+    public UserDatabase loadUsers() {
+        return new FileUserDatabase(usersFile);
+    }
+}
@@ -1,5 +1,16 @@
 package com.rpg;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface AiAgent {
     SkillAction chooseAction(Player player, GameWorld world);
+
+    default List<SkillAction> chooseActions(List<Player> players, GameWorld world) {
+        List<SkillAction> decisions = new ArrayList<>(players.size());
+        for (Player player : players) {
+            decisions.add(chooseAction(player, world));
+        }
+        return decisions;
+    }
 }
@@ -0,0 +1,97 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class AiDecisionPipeline implements AutoCloseable {
+    private static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final AiAgent agent;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final boolean ownsExecutor;
+
+    public AiDecisionPipeline(AiAgent agent) {
+        this(agent, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public AiDecisionPipeline(AiAgent agent, int parallelism, int chunkSize) {
+        this(agent, Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ai-planner");
+            thread.setDaemon(true);
+            return thread;
+        }), chunkSize, true);
+    }
+
+    public AiDecisionPipeline(AiAgent agent, ExecutorService executor, int chunkSize) {
+        this(agent, executor, chunkSize, false);
+    }
+
+    private AiDecisionPipeline(AiAgent agent, ExecutorService executor, int chunkSize, boolean ownsExecutor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.agent = agent;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public SkillAction[] plan(List<Player> players, GameWorld world) {
+        SkillAction[] decisions = new SkillAction[players.size()];
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < players.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, players.size());
+            chunks.add(executor.submit(() -> {
+                List<SkillAction> chosen = agent.chooseActions(players.subList(start, end), world);
+                for (int i = 0; i < chosen.size(); i++) {
+                    decisions[start + i] = chosen.get(i);
+                }
+            }));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while planning agent decisions", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Agent decision planning failed", e.getCause());
+        }
+        return decisions;
+    }
+
+    public int apply(List<Player> players, SkillAction[] decisions) {
+        if (decisions.length != players.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + players.size() + " decisions but got " + decisions.length
+            );
+        }
+        int applied = 0;
+        for (int i = 0; i < decisions.length; i++) {
+            SkillAction action = decisions[i];
+            if (action != null) {
+                players.get(i).trainSkill(action.getSkillType(), action.getExperienceReward());
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    public int step(List<Player> players, GameWorld world) {
+        return apply(players, plan(players, world));
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+}
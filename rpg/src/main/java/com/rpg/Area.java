@@ -1,14 +1,23 @@
 package com.rpg;
 
 import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class Area {
+    private static final double AREA_SIZE = 1024.0;
+    private static final double GRID_CELL_SIZE = 32.0;
+
     private final String name;
     private final String description;
     private final List<ResourceNode> resources;
     private final List<Npc> monsters;
     private final List<SkillTutor> skillTutors;
     private final AuctionHouse auctionHouse;
+    private final LootRule lootRule;
+    private final SpatialGrid<ResourceNode> resourceGrid = new SpatialGrid<>(AREA_SIZE, AREA_SIZE, GRID_CELL_SIZE);
+    private final SpatialGrid<Combatant> combatantGrid = new SpatialGrid<>(AREA_SIZE, AREA_SIZE, GRID_CELL_SIZE);
+    private final ReadWriteLock combatantLock = new ReentrantReadWriteLock();
 
     public Area(String name, String description, List<ResourceNode> resources, List<Npc> monsters) {
         this(name, description, resources, monsters, List.of(), null);
@@ -21,6 +30,18 @@ public class Area {
             List<Npc> monsters,
             List<SkillTutor> skillTutors,
             AuctionHouse auctionHouse
+    ) {
+        this(name, description, resources, monsters, skillTutors, auctionHouse, LootRule.KEEP_ON_DEATH);
+    }
+
+    public Area(
+            String name,
+            String description,
+            List<ResourceNode> resources,
+            List<Npc> monsters,
+            List<SkillTutor> skillTutors,
+            AuctionHouse auctionHouse,
+            LootRule lootRule
     ) {
         this.name = name;
         this.description = description;
@@ -28,6 +49,13 @@ public class Area {
         this.monsters = List.copyOf(monsters);
         this.skillTutors = List.copyOf(skillTutors);
         this.auctionHouse = auctionHouse;
+        this.lootRule = lootRule;
+        for (ResourceNode resource : this.resources) {
+            resourceGrid.insert(resource, resource.getX(), resource.getY());
+        }
+        for (Npc monster : this.monsters) {
+            combatantGrid.insert(monster, monster.getX(), monster.getY());
+        }
     }
 
     public String getName() {
@@ -53,4 +81,72 @@ public class Area {
     public AuctionHouse getAuctionHouse() {
         return auctionHouse;
     }
+
+    public LootRule getLootRule() {
+        return lootRule;
+    }
+
+    public void enter(Combatant combatant, double x, double y) {
+        combatantLock.writeLock().lock();
+        try {
+            combatant.setPosition(x, y);
+            combatantGrid.insert(combatant, x, y);
+        } finally {
+            combatantLock.writeLock().unlock();
+        }
+    }
+
+    public boolean moveCombatant(Combatant combatant, double x, double y) {
+        combatantLock.writeLock().lock();
+        try {
+            if (!combatantGrid.move(combatant, x, y)) {
+                return false;
+            }
+            combatant.setPosition(x, y);
+            return true;
+        } finally {
+            combatantLock.writeLock().unlock();
+        }
+    }
+
+    public boolean leave(Combatant combatant) {
+        combatantLock.writeLock().lock();
+        try {
+            return combatantGrid.remove(combatant);
+        } finally {
+            combatantLock.writeLock().unlock();
+        }
+    }
+
+    public List<Combatant> findCombatantsInRange(double x, double y, double radius) {
+        combatantLock.readLock().lock();
+        try {
+            return combatantGrid.findInRange(x, y, radius);
+        } finally {
+            combatantLock.readLock().unlock();
+        }
+    }
+
+    public Npc findNearestMonster(double x, double y, double maxRadius) {
+        combatantLock.readLock().lock();
+        try {
+            Combatant nearest = combatantGrid.findNearest(
+                    x,
+                    y,
+                    maxRadius,
+                    combatant -> combatant instanceof Npc && ((Npc) combatant).isMonster() && combatant.isAlive()
+            );
+            return (Npc) nearest;
+        } finally {
+            combatantLock.readLock().unlock();
+        }
+    }
+
+    public List<ResourceNode> findResourcesInRange(double x, double y, double radius) {
+        return resourceGrid.findInRange(x, y, radius);
+    }
+
+    public ResourceNode findNearestResource(double x, double y, SkillType skillType, double maxRadius) {
+        return resourceGrid.findNearest(x, y, maxRadius, resource -> resource.getSkillType() == skillType);
+    }
 }
@@ -0,0 +1,33 @@
+package com.rpg;
+
+import java.util.List;
+
+public class AreaDefinition {
+    private final String areaId;
+    private final Area area;
+    private final List<String> neighborIds;
+    private final long estimatedBytes;
+
+    public AreaDefinition(String areaId, Area area, List<String> neighborIds, long estimatedBytes) {
+        this.areaId = areaId;
+        this.area = area;
+        this.neighborIds = List.copyOf(neighborIds);
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public String getAreaId() {
+        return areaId;
+    }
+
+    public Area getArea() {
+        return area;
+    }
+
+    public List<String> getNeighborIds() {
+        return neighborIds;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
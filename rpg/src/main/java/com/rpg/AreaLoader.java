@@ -0,0 +1,164 @@
+package com.rpg;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AreaLoader {
+    private static final String CLASSPATH_ROOT = "/areas/";
+    private static final String FILE_SUFFIX = ".area";
+    // Plain javac runs from the repo root (see README quick start) have no resources on the classpath.
+    private static final Path SOURCE_TREE_DIRECTORY = Path.of("rpg", "src", "main", "resources", "areas");
+    // Rough resident cost of an area: its spatial grids plus a per-entity and per-character allowance.
+    private static final long AREA_BASE_BYTES = 32 * 1024;
+    private static final long ENTITY_BYTES = 256;
+    private static final long CHAR_BYTES = 2;
+
+    private final Path directory;
+
+    public AreaLoader() {
+        this(null);
+    }
+
+    public AreaLoader(Path directory) {
+        this.directory = directory;
+    }
+
+    public AreaDefinition load(String areaId) {
+        try (BufferedReader reader = open(areaId)) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return parse(areaId, lines);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read area " + areaId, e);
+        }
+    }
+
+    public static AreaDefinition parse(String areaId, List<String> lines) {
+        String name = null;
+        String description = "";
+        LootRule lootRule = LootRule.KEEP_ON_DEATH;
+        AuctionHouse auctionHouse = null;
+        List<String> neighbors = new ArrayList<>();
+        List<ResourceNode> resources = new ArrayList<>();
+        List<Npc> monsters = new ArrayList<>();
+        List<SkillTutor> tutors = new ArrayList<>();
+        String tutorName = null;
+        String tutorDescription = null;
+        List<SkillLesson> lessons = new ArrayList<>();
+        int lessonCount = 0;
+        long characters = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Malformed entry in area " + areaId + " at line " + (i + 1));
+            }
+            String key = line.substring(0, separator);
+            String value = line.substring(separator + 1);
+            String[] fields = value.split("\\|", -1);
+            characters += value.length();
+            try {
+                switch (key) {
+                    case "name":
+                        name = value;
+                        break;
+                    case "description":
+                        description = value;
+                        break;
+                    case "loot":
+                        lootRule = LootRule.valueOf(value);
+                        break;
+                    case "neighbors":
+                        for (String neighbor : value.split(",")) {
+                            if (!neighbor.isBlank()) {
+                                neighbors.add(neighbor.strip());
+                            }
+                        }
+                        break;
+                    case "auction":
+                        auctionHouse = new AuctionHouse(fields[0], fields[1]);
+                        break;
+                    case "resource":
+                        resources.add(new ResourceNode(
+                                fields[0],
+                                SkillType.valueOf(fields[1]),
+                                fields[2],
+                                Double.parseDouble(fields[3]),
+                                Double.parseDouble(fields[4])
+                        ));
+                        break;
+                    case "monster":
+                        Npc monster = new Npc(
+                                fields[0],
+                                Integer.parseInt(fields[1]),
+                                Integer.parseInt(fields[2]),
+                                Integer.parseInt(fields[3]),
+                                Integer.parseInt(fields[4]),
+                                Integer.parseInt(fields[5]),
+                                true
+                        );
+                        monster.setPosition(Double.parseDouble(fields[6]), Double.parseDouble(fields[7]));
+                        monsters.add(monster);
+                        break;
+                    case "tutor":
+                        if (tutorName != null) {
+                            tutors.add(new SkillTutor(tutorName, tutorDescription, lessons));
+                            lessons = new ArrayList<>();
+                        }
+                        tutorName = fields[0];
+                        tutorDescription = fields[1];
+                        break;
+                    case "lesson":
+                        if (tutorName == null) {
+                            throw new IllegalStateException("Lesson before any tutor in area " + areaId + " at line " + (i + 1));
+                        }
+                        lessonCount++;
+                        lessons.add(new SkillLesson(SkillType.valueOf(fields[0]), fields[1], List.of(fields[2].split(",\\s*"))));
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown key '" + key + "' in area " + areaId + " at line " + (i + 1));
+                }
+            } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid " + key + " entry in area " + areaId + " at line " + (i + 1), e);
+            }
+        }
+        if (tutorName != null) {
+            tutors.add(new SkillTutor(tutorName, tutorDescription, lessons));
+        }
+        if (name == null) {
+            throw new IllegalStateException("Area " + areaId + " has no name");
+        }
+        Area area = new Area(name, description, resources, monsters, tutors, auctionHouse, lootRule);
+        long entities = resources.size() + monsters.size() + tutors.size() + lessonCount;
+        long estimatedBytes = AREA_BASE_BYTES + entities * ENTITY_BYTES + characters * CHAR_BYTES;
+        return new AreaDefinition(areaId, area, neighbors, estimatedBytes);
+    }
+
+    private BufferedReader open(String areaId) throws IOException {
+        if (directory != null) {
+            return Files.newBufferedReader(directory.resolve(areaId + FILE_SUFFIX), StandardCharsets.UTF_8);
+        }
+        InputStream stream = AreaLoader.class.getResourceAsStream(CLASSPATH_ROOT + areaId + FILE_SUFFIX);
+        if (stream == null) {
+            Path sourceFile = SOURCE_TREE_DIRECTORY.resolve(areaId + FILE_SUFFIX);
+            if (Files.isRegularFile(sourceFile)) {
+                return Files.newBufferedReader(sourceFile, StandardCharsets.UTF_8);
+            }
+            throw new IllegalStateException("No area definition found for " + areaId);
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,125 @@
+package com.rpg;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class AsyncNarrationSink implements NarrationSink {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final MpscRingBuffer<String> buffer;
+    private final OutputStream out;
+    private final int batchSize;
+    private final StringBuilder batch = new StringBuilder();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicInteger emitting = new AtomicInteger();
+    private final Thread writer;
+    private volatile long written;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    public AsyncNarrationSink(OutputStream out) {
+        this(out, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public AsyncNarrationSink(OutputStream out, int capacity, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.out = out;
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drainLoop, "narration-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    @Override
+    public void emit(String line) {
+        // Registered before the closed check, so the writer cannot exit while this line is still on its way in.
+        emitting.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Narration sink is closed");
+            }
+            while (!buffer.offer(line)) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            accepted.incrementAndGet();
+        } finally {
+            emitting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void flush() {
+        long target = accepted.get();
+        while (written < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        IOException error = failure;
+        if (error != null) {
+            throw new IllegalStateException("Failed to write narration", error);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void drainLoop() {
+        while (true) {
+            if (drainBatch() == 0) {
+                if (closed && emitting.get() == 0 && buffer.isEmpty()) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        String line;
+        while (count < batchSize && (line = buffer.poll()) != null) {
+            batch.append(line).append(System.lineSeparator());
+            count++;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            out.write(batch.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+        batch.setLength(0);
+        written += count;
+        return count;
+    }
+}
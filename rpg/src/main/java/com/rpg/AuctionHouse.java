@@ -1,12 +1,25 @@
 package com.rpg;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
 public class AuctionHouse {
     private final String name;
     private final String description;
+    private final Path journalDirectory;
+    private MatchingEngine matchingEngine;
+    private MarketDataFeed marketData;
 
     public AuctionHouse(String name, String description) {
+        this(name, description, null);
+    }
+
+    public AuctionHouse(String name, String description, Path journalDirectory) {
         this.name = name;
         this.description = description;
+        this.journalDirectory = journalDirectory;
     }
 
     public String getName() {
@@ -16,4 +29,46 @@ public class AuctionHouse {
     public String getDescription() {
         return description;
     }
+
+    public synchronized MatchingEngine getMatchingEngine() {
+        if (matchingEngine == null) {
+            matchingEngine = journalDirectory == null
+                    ? new MatchingEngine(name)
+                    : new MatchingEngine(name, openJournal());
+            marketData = new MarketDataFeed(name);
+            matchingEngine.addTradeListener(marketData);
+        }
+        return matchingEngine;
+    }
+
+    public synchronized boolean isMarketOpen() {
+        return matchingEngine != null;
+    }
+
+    public synchronized MarketDataFeed getMarketData() {
+        getMatchingEngine();
+        return marketData;
+    }
+
+    public synchronized void closeMarket() {
+        if (matchingEngine != null) {
+            matchingEngine.close();
+            marketData.close();
+            matchingEngine = null;
+            marketData = null;
+        }
+    }
+
+    private TradeJournal openJournal() {
+        String fileName = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        try {
+            Files.createDirectories(journalDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create trade journal directory " + journalDirectory, e);
+        }
+        return new TradeJournal(
+                journalDirectory.resolve(fileName + ".journal"),
+                journalDirectory.resolve(fileName + ".snapshot")
+        );
+    }
 }
@@ -1,32 +1,19 @@
 package com.rpg;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class BasicPlannerAgent implements AiAgent {
-    private final Random random = new Random();
-
     @Override
     public SkillAction chooseAction(Player player, GameWorld world) {
+        List<SkillAction> matching = world.getActionsForSkill(player.getLowestSkillType());
+        if (!matching.isEmpty()) {
+            return matching.get(0);
+        }
         List<SkillAction> actions = world.getAvailableActions();
         if (actions.isEmpty()) {
             return null;
         }
-        SkillType lowestSkill = SkillType.COOKING;
-        int lowestLevel = Integer.MAX_VALUE;
-        for (SkillType type : SkillType.values()) {
-            int level = player.getSkill(type).getLevel();
-            if (level < lowestLevel) {
-                lowestLevel = level;
-                lowestSkill = type;
-            }
-        }
-        SkillAction fallback = actions.get(random.nextInt(actions.size()));
-        for (SkillAction action : actions) {
-            if (action.getSkillType() == lowestSkill) {
-                return action;
-            }
-        }
-        return fallback;
+        return actions.get(ThreadLocalRandom.current().nextInt(actions.size()));
     }
 }
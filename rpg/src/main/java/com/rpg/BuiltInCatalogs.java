@@ -0,0 +1,336 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Seed definitions for the spell and animation catalogs; this class only loads on a catalog's first query.
+final class BuiltInCatalogs {
+    private BuiltInCatalogs() {
+    }
+
+    static List<Spell> spells() {
+        List<Spell> spells = new ArrayList<>();
+        spells.add(new Spell("Hex Lash", MagicSchool.WITCHCRAFT, 1, 8, 12, 1.1, 6,
+                "Deals shadow damage and applies a 10% damage taken increase.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Coven Ward", MagicSchool.WITCHCRAFT, 6, 14, 18, 0.0, 12,
+                "Creates a ward that blocks 18 damage and reflects 5 back.",
+                SpellEffectType.WARD));
+        spells.add(new Spell("Briar Bind", MagicSchool.WITCHCRAFT, 12, 18, 8, 0.8, 10,
+                "Roots a target and deals nature damage over time.",
+                SpellEffectType.ROOT));
+        spells.add(new Spell("Night Cauldron", MagicSchool.WITCHCRAFT, 20, 26, 0, 0.0, 15,
+                "Area haze reduces enemy accuracy by 15%.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Blood Harvest", MagicSchool.WITCHCRAFT, 28, 35, 24, 1.4, 0,
+                "High damage and heals caster for 35% of damage dealt.",
+                SpellEffectType.INSTANT));
+
+        spells.add(new Spell("Spark", MagicSchool.FIRE, 1, 6, 10, 1.0, 0,
+                "Quick fire bolt for single-target damage.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Cinder Burst", MagicSchool.FIRE, 8, 15, 18, 1.2, 4,
+                "Explodes for damage and leaves a burning patch.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+        spells.add(new Spell("Flame Wall", MagicSchool.FIRE, 14, 22, 16, 1.0, 8,
+                "Creates a wall that damages enemies crossing it.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+        spells.add(new Spell("Inferno Lance", MagicSchool.FIRE, 22, 32, 30, 1.6, 0,
+                "Piercing line attack with heavy damage.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Phoenix Nova", MagicSchool.FIRE, 30, 45, 40, 1.9, 10,
+                "Large blast with lingering burn and minor self-heal.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+
+        spells.add(new Spell("Gale Dart", MagicSchool.AIR, 1, 5, 9, 0.9, 0,
+                "Fast-moving air bolt with a high crit chance.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Vacuum Pull", MagicSchool.AIR, 7, 14, 6, 0.7, 3,
+                "Pulls enemies inward and briefly slows them.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Zephyr Step", MagicSchool.AIR, 12, 18, 0, 0.0, 5,
+                "Grants 25% movement speed and evasion.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Storm Javelin", MagicSchool.AIR, 20, 28, 26, 1.3, 0,
+                "Charged spear of wind that ignores 20% armor.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Tempest Ring", MagicSchool.AIR, 28, 38, 20, 1.1, 8,
+                "Whirling winds deal damage and knock back.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+
+        spells.add(new Spell("Frost Needle", MagicSchool.WATER, 1, 6, 10, 1.0, 2,
+                "Chills a target, slowing them by 15%.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Tide Lash", MagicSchool.WATER, 9, 16, 18, 1.1, 0,
+                "Whip of water that splashes for minor area damage.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Healing Rain", MagicSchool.WATER, 14, 22, 16, 0.9, 8,
+                "Heals allies in an area each second.",
+                SpellEffectType.HEAL_OVER_TIME));
+        spells.add(new Spell("Ice Prison", MagicSchool.WATER, 21, 30, 14, 0.8, 6,
+                "Encases target, preventing movement and attacks.",
+                SpellEffectType.ROOT));
+        spells.add(new Spell("Glacial Surge", MagicSchool.WATER, 29, 42, 36, 1.7, 4,
+                "Heavy damage with a strong slow aftershock.",
+                SpellEffectType.DEBUFF));
+
+        spells.add(new Spell("Stone Shard", MagicSchool.EARTH, 1, 7, 11, 1.0, 0,
+                "Launches a shard that deals blunt damage.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Rooted Bulwark", MagicSchool.EARTH, 8, 16, 0, 0.0, 10,
+                "Increases armor by 20% and grants stagger resistance.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Seismic Pulse", MagicSchool.EARTH, 15, 24, 20, 1.2, 0,
+                "Ground shockwave that interrupts casting.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Granite Spikes", MagicSchool.EARTH, 22, 33, 28, 1.4, 6,
+                "Spikes erupt, damaging and slowing enemies.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+        spells.add(new Spell("Mountain's Grasp", MagicSchool.EARTH, 30, 46, 34, 1.6, 8,
+                "Massive slam with a long-lasting slow field.",
+                SpellEffectType.DEBUFF));
+
+        spells.add(new Spell("Arcane Bolt", MagicSchool.ARCANE, 1, 7, 12, 1.1, 0,
+                "Pure arcane damage with consistent output.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Mana Siphon", MagicSchool.ARCANE, 10, 18, 8, 0.9, 0,
+                "Deals damage and restores 8 mana on hit.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Phase Shift", MagicSchool.ARCANE, 16, 26, 0, 0.0, 4,
+                "Briefly become untargetable and cleanse debuffs.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Runic Barrage", MagicSchool.ARCANE, 24, 36, 30, 1.4, 0,
+                "Fires multiple bolts that can chain to nearby foes.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Astral Convergence", MagicSchool.ARCANE, 32, 50, 42, 1.8, 6,
+                "Area burst that amplifies magic damage by 12%.",
+                SpellEffectType.DEBUFF));
+
+        spells.add(new Spell("Soothing Touch", MagicSchool.HEALING, 1, 6, 14, 1.0, 0,
+                "Single-target heal with low mana cost.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Mending Wave", MagicSchool.HEALING, 8, 16, 22, 1.1, 0,
+                "Heals up to three allies in a chain.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Renew", MagicSchool.HEALING, 14, 22, 10, 0.7, 10,
+                "Applies a heal-over-time effect.",
+                SpellEffectType.HEAL_OVER_TIME));
+        spells.add(new Spell("Sanctuary", MagicSchool.HEALING, 22, 34, 0, 0.0, 8,
+                "Creates a zone reducing incoming damage by 18%.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Revivify", MagicSchool.HEALING, 30, 48, 40, 1.5, 0,
+                "Massive heal that also clears one negative effect.",
+                SpellEffectType.INSTANT));
+
+        spells.add(new Spell("Mirage Veil", MagicSchool.ILLUSIONS, 1, 7, 0, 0.0, 6,
+                "Increases evasion by 15% and lowers threat.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Phantom Arrow", MagicSchool.ILLUSIONS, 9, 16, 16, 1.0, 0,
+                "Illusory projectile that ignores 25% armor.",
+                SpellEffectType.INSTANT));
+        spells.add(new Spell("Doublesight", MagicSchool.ILLUSIONS, 15, 24, 0, 0.0, 12,
+                "Reveals hidden targets and increases crit by 10%.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Vanishing Act", MagicSchool.ILLUSIONS, 22, 32, 0, 0.0, 4,
+                "Brief invisibility and movement burst.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Hall of Echoes", MagicSchool.ILLUSIONS, 30, 45, 22, 1.2, 8,
+                "Creates decoys that redirect enemy attacks.",
+                SpellEffectType.DAMAGE_OVER_TIME));
+
+        spells.add(new Spell("Battle Hymn", MagicSchool.BUFFS, 1, 8, 0, 0.0, 12,
+                "Increases party damage by 8%.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Iron Nerve", MagicSchool.BUFFS, 10, 18, 0, 0.0, 10,
+                "Boosts armor and stun resistance by 15%.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Quickstep", MagicSchool.BUFFS, 16, 24, 0, 0.0, 8,
+                "Grants 20% attack speed and movement speed.",
+                SpellEffectType.BUFF));
+        spells.add(new Spell("Arc Guard", MagicSchool.BUFFS, 24, 34, 25, 0.0, 10,
+                "Absorbs 25 damage and returns 10% of blocked damage.",
+                SpellEffectType.WARD));
+        spells.add(new Spell("Hero's Crest", MagicSchool.BUFFS, 32, 48, 0, 0.0, 15,
+                "Large stat boost to strength, defense, and focus.",
+                SpellEffectType.BUFF));
+
+        spells.add(new Spell("Wither", MagicSchool.DEBUFFS, 1, 7, 8, 0.9, 8,
+                "Reduces target attack power by 12%.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Sunder Armor", MagicSchool.DEBUFFS, 9, 16, 12, 1.0, 6,
+                "Deals damage and reduces armor by 18%.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Crippling Mist", MagicSchool.DEBUFFS, 15, 24, 10, 0.8, 8,
+                "AoE slow and accuracy reduction.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Mana Lock", MagicSchool.DEBUFFS, 22, 34, 14, 1.1, 5,
+                "Silences and increases mana costs by 25%.",
+                SpellEffectType.DEBUFF));
+        spells.add(new Spell("Doom Mark", MagicSchool.DEBUFFS, 30, 46, 20, 1.3, 10,
+                "Marks target to take 20% more damage from all sources.",
+                SpellEffectType.DEBUFF));
+        return spells;
+    }
+
+    static Map<SkillType, SkillAnimation> animations() {
+        Map<SkillType, SkillAnimation> animations = new EnumMap<>(SkillType.class);
+        animations.put(SkillType.COOKING, new SkillAnimation(
+                SkillType.COOKING, "Hearty Stew", "Hearty Stew",
+                List.of("Clay Pot", "Boar Meat", "Root Vegetables", "Spring Water", "Herb Bundle"),
+                List.of(
+                        new AnimationStep("Set the clay pot over a low flame.", new String[]{"Clay Pot", "Campfire"}, 2.0),
+                        new AnimationStep("Pour spring water into the pot and bring it to a simmer.", new String[]{"Spring Water"}, 3.5),
+                        new AnimationStep("Add chopped root vegetables and stir with a wooden ladle.", new String[]{"Root Vegetables", "Wooden Ladle"}, 4.0),
+                        new AnimationStep("Slide in boar meat chunks and let them sear on the surface.", new String[]{"Boar Meat"}, 3.0),
+                        new AnimationStep("Crush herbs between your palms and season the stew.", new String[]{"Herb Bundle"}, 2.0),
+                        new AnimationStep("Cover the pot, let it bubble, then ladle into a bowl.", new String[]{"Bowl", "Hearty Stew"}, 4.5)
+                )
+        ));
+        animations.put(SkillType.FARMING, new SkillAnimation(
+                SkillType.FARMING, "Harvest Sunroot", "Sunroot Crop",
+                List.of("Seed Satchel", "Watering Can", "Sunroot Plot"),
+                List.of(
+                        new AnimationStep("Mark a neat furrow and press seeds into the soil.", new String[]{"Seed Satchel", "Soil"}, 3.0),
+                        new AnimationStep("Water the row until the earth darkens.", new String[]{"Watering Can"}, 2.5),
+                        new AnimationStep("Pull weeds and pat the soil around the sprout.", new String[]{"Sprout"}, 2.0),
+                        new AnimationStep("Wait as the sunroot blooms with golden leaves.", new String[]{"Sunroot Plant"}, 3.5),
+                        new AnimationStep("Twist and lift the ripe sunroot free.", new String[]{"Sunroot Crop"}, 2.5)
+                )
+        ));
+        animations.put(SkillType.FISHING, new SkillAnimation(
+                SkillType.FISHING, "River Pike", "River Pike",
+                List.of("Reed Rod", "Hooked Bait", "Riverbank"),
+                List.of(
+                        new AnimationStep("Cast the baited hook into the flowing current.", new String[]{"Reed Rod", "Hooked Bait"}, 2.5),
+                        new AnimationStep("The line tugs hard; you set the hook.", new String[]{"Fishing Line"}, 1.5),
+                        new AnimationStep("Reel steadily as the fish fights downstream.", new String[]{"River Pike"}, 3.5),
+                        new AnimationStep("Lift the pike onto a damp cloth.", new String[]{"River Pike", "Damp Cloth"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.FIGHTING, new SkillAnimation(
+                SkillType.FIGHTING, "Training Strike", "Balanced Footwork",
+                List.of("Practice Blade", "Buckler"),
+                List.of(
+                        new AnimationStep("Raise the buckler to guard your chest.", new String[]{"Buckler"}, 1.5),
+                        new AnimationStep("Step forward and slash across the target dummy.", new String[]{"Practice Blade"}, 2.0),
+                        new AnimationStep("Re-center your stance and breathe out.", new String[]{"Training Dummy"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.FORAGING, new SkillAnimation(
+                SkillType.FORAGING, "Gather Wild Berries", "Basket of Berries",
+                List.of("Wicker Basket", "Wild Berry Bush"),
+                List.of(
+                        new AnimationStep("Brush aside leaves to reveal ripe berries.", new String[]{"Wild Berry Bush"}, 2.0),
+                        new AnimationStep("Pluck berries gently, avoiding thorns.", new String[]{"Wild Berries"}, 2.5),
+                        new AnimationStep("Set the berries into a wicker basket.", new String[]{"Wicker Basket"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.MAPPING, new SkillAnimation(
+                SkillType.MAPPING, "Trail Survey", "Updated Trail Map",
+                List.of("Parchment Map", "Charcoal Stylus", "Landmark Stone"),
+                List.of(
+                        new AnimationStep("Study the landmark stone for markings.", new String[]{"Landmark Stone"}, 2.0),
+                        new AnimationStep("Sketch the ridge line on the parchment.", new String[]{"Parchment Map", "Charcoal Stylus"}, 3.0),
+                        new AnimationStep("Mark a safe crossing with a small rune.", new String[]{"Updated Trail Map"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.ALCHEMY, new SkillAnimation(
+                SkillType.ALCHEMY, "Healing Tonic", "Healing Tonic",
+                List.of("Copper Still", "Bitterroot", "Clear Vial", "Spring Water"),
+                List.of(
+                        new AnimationStep("Grind bitterroot into a coarse paste.", new String[]{"Bitterroot", "Mortar"}, 3.0),
+                        new AnimationStep("Combine paste with spring water in the still.", new String[]{"Copper Still", "Spring Water"}, 2.5),
+                        new AnimationStep("Heat gently as vapors condense.", new String[]{"Copper Still"}, 4.0),
+                        new AnimationStep("Decant the tonic into a clear vial.", new String[]{"Clear Vial", "Healing Tonic"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.MINING, new SkillAnimation(
+                SkillType.MINING, "Copper Ore", "Copper Ore",
+                List.of("Pickaxe", "Copper Vein"),
+                List.of(
+                        new AnimationStep("Clear loose stone from the vein face.", new String[]{"Copper Vein"}, 2.0),
+                        new AnimationStep("Strike with a pickaxe until ore flakes free.", new String[]{"Pickaxe", "Copper Ore"}, 3.5),
+                        new AnimationStep("Collect the ore in a sturdy sack.", new String[]{"Copper Ore", "Sack"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.GEOLOGY, new SkillAnimation(
+                SkillType.GEOLOGY, "Identify Quartz", "Quartz Sample",
+                List.of("Rock Hammer", "Strata Wall"),
+                List.of(
+                        new AnimationStep("Scan the strata for crystalline glints.", new String[]{"Strata Wall"}, 2.0),
+                        new AnimationStep("Tap the layer with a rock hammer.", new String[]{"Rock Hammer"}, 1.5),
+                        new AnimationStep("Extract a clean quartz sample.", new String[]{"Quartz Sample"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.ARCHAEOLOGY, new SkillAnimation(
+                SkillType.ARCHAEOLOGY, "Relic Tablet", "Relic Tablet",
+                List.of("Brush", "Chisel", "Buried Tablet"),
+                List.of(
+                        new AnimationStep("Brush away loose sand from the tablet edge.", new String[]{"Brush", "Buried Tablet"}, 2.5),
+                        new AnimationStep("Use a chisel to free the tablet.", new String[]{"Chisel"}, 3.0),
+                        new AnimationStep("Lift the relic tablet and wrap it in cloth.", new String[]{"Relic Tablet", "Cloth Wrap"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.LOREKEEPING, new SkillAnimation(
+                SkillType.LOREKEEPING, "Record Oral Legend", "Lore Entry",
+                List.of("Ink Quill", "Travel Journal", "Elder's Tale"),
+                List.of(
+                        new AnimationStep("Listen as the elder recounts the legend.", new String[]{"Elder's Tale"}, 3.0),
+                        new AnimationStep("Write key names and places with the quill.", new String[]{"Ink Quill", "Travel Journal"}, 3.5),
+                        new AnimationStep("Seal the entry with a wax stamp.", new String[]{"Lore Entry", "Wax Seal"}, 2.0)
+                )
+        ));
+        animations.put(SkillType.MAGIC_SCHOOLS, new SkillAnimation(
+                SkillType.MAGIC_SCHOOLS, "Channel Arcane Bolt", "Arcane Bolt",
+                List.of("Focus Crystal", "Channeling Sigil"),
+                List.of(
+                        new AnimationStep("Trace a channeling sigil in the air.", new String[]{"Channeling Sigil"}, 2.0),
+                        new AnimationStep("Hold a focus crystal and draw in mana.", new String[]{"Focus Crystal"}, 2.5),
+                        new AnimationStep("Release a controlled arcane bolt.", new String[]{"Arcane Bolt"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.BLACKSMITHING, new SkillAnimation(
+                SkillType.BLACKSMITHING, "Forged Nails", "Forged Nails",
+                List.of("Iron Ingot", "Anvil", "Hammer"),
+                List.of(
+                        new AnimationStep("Heat the iron ingot until it glows orange.", new String[]{"Iron Ingot", "Forge"}, 3.0),
+                        new AnimationStep("Hammer the ingot into a narrow bar.", new String[]{"Hammer", "Anvil"}, 2.5),
+                        new AnimationStep("Cut and shape the bar into nails.", new String[]{"Forged Nails"}, 2.0),
+                        new AnimationStep("Quench the nails in a bucket of water.", new String[]{"Water Bucket"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.ARMOR_MAKING, new SkillAnimation(
+                SkillType.ARMOR_MAKING, "Leather Bracers", "Leather Bracers",
+                List.of("Tanned Hide", "Rivet Kit", "Leather Pattern"),
+                List.of(
+                        new AnimationStep("Lay the pattern over the tanned hide.", new String[]{"Leather Pattern", "Tanned Hide"}, 2.0),
+                        new AnimationStep("Cut the hide into bracer shapes.", new String[]{"Cut Leather"}, 2.5),
+                        new AnimationStep("Punch rivet holes and set the rivets.", new String[]{"Rivet Kit"}, 2.5),
+                        new AnimationStep("Flex the bracers to test the fit.", new String[]{"Leather Bracers"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.WEAPON_MAKING, new SkillAnimation(
+                SkillType.WEAPON_MAKING, "Training Sword", "Training Sword",
+                List.of("Steel Blank", "Grindstone", "Grip Wrap"),
+                List.of(
+                        new AnimationStep("Heat and hammer the steel blank to shape.", new String[]{"Steel Blank", "Hammer"}, 3.0),
+                        new AnimationStep("Grind the edge until it is even.", new String[]{"Grindstone"}, 2.5),
+                        new AnimationStep("Attach the grip wrap and pommel.", new String[]{"Grip Wrap", "Pommel"}, 2.0),
+                        new AnimationStep("Test balance with a slow flourish.", new String[]{"Training Sword"}, 1.5)
+                )
+        ));
+        animations.put(SkillType.STAFF_MAKING, new SkillAnimation(
+                SkillType.STAFF_MAKING, "Runed Staff", "Runed Staff",
+                List.of("Ash Wood", "Rune Chisel", "Binding Cord"),
+                List.of(
+                        new AnimationStep("Select a straight ash branch and trim it.", new String[]{"Ash Wood"}, 2.5),
+                        new AnimationStep("Carve runes with a rune chisel.", new String[]{"Rune Chisel", "Carved Staff"}, 3.0),
+                        new AnimationStep("Bind the grip with cord and seal it.", new String[]{"Binding Cord"}, 2.0),
+                        new AnimationStep("Raise the staff and let the runes glow.", new String[]{"Runed Staff"}, 1.5)
+                )
+        ));
+        return animations;
+    }
+}
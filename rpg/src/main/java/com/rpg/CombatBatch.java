@@ -0,0 +1,176 @@
+package com.rpg;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CombatBatch {
+    private static final byte ALREADY_DOWN = (byte) CombatOutcome.ALREADY_DOWN.ordinal();
+    private static final byte PARRIED = (byte) CombatOutcome.PARRIED.ordinal();
+    private static final byte MELEE_HIT = (byte) CombatOutcome.MELEE_HIT.ordinal();
+    private static final byte SHIELD_BLOCKED = (byte) CombatOutcome.SHIELD_BLOCKED.ordinal();
+    private static final byte MAGIC_HIT = (byte) CombatOutcome.MAGIC_HIT.ordinal();
+
+    private String[] names;
+    private int[] health;
+    private int[] shield;
+    private int[] attack;
+    private int[] defense;
+    private int[] magic;
+    private int[] appliedHealth;
+    private int[] appliedShield;
+    private int size;
+
+    public CombatBatch(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        names = new String[capacity];
+        health = new int[capacity];
+        shield = new int[capacity];
+        attack = new int[capacity];
+        defense = new int[capacity];
+        magic = new int[capacity];
+        appliedHealth = new int[capacity];
+        appliedShield = new int[capacity];
+    }
+
+    public static CombatBatch of(List<? extends Combatant> combatants) {
+        CombatBatch batch = new CombatBatch(combatants.size());
+        for (Combatant combatant : combatants) {
+            batch.add(combatant);
+        }
+        return batch;
+    }
+
+    public int add(Combatant combatant) {
+        return add(
+                combatant.getName(),
+                combatant.getHealth(),
+                combatant.getShieldDurability(),
+                combatant.getAttackPower(),
+                combatant.getDefenseRating(),
+                combatant.getMagicPower()
+        );
+    }
+
+    public int add(String name, int health, int shieldDurability, int attackPower, int defenseRating, int magicPower) {
+        if (size == this.health.length) {
+            grow();
+        }
+        names[size] = name;
+        this.health[size] = health;
+        shield[size] = shieldDurability;
+        attack[size] = attackPower;
+        defense[size] = defenseRating;
+        magic[size] = magicPower;
+        appliedHealth[size] = health;
+        appliedShield[size] = shieldDurability;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public int getHealth(int index) {
+        return health[index];
+    }
+
+    public int getShieldDurability(int index) {
+        return shield[index];
+    }
+
+    public boolean isAlive(int index) {
+        return health[index] > 0;
+    }
+
+    public int countAlive() {
+        int alive = 0;
+        for (int i = 0; i < size; i++) {
+            if (health[i] > 0) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    public int applyTo(List<? extends Combatant> combatants) {
+        int killed = 0;
+        for (int i = 0; i < size; i++) {
+            // Apply only what this batch dealt since the last write-back, so hits landed elsewhere are kept.
+            if (combatants.get(i).applyHit(appliedHealth[i] - health[i], appliedShield[i] - shield[i])) {
+                killed++;
+            }
+            appliedHealth[i] = health[i];
+            appliedShield[i] = shield[i];
+        }
+        return killed;
+    }
+
+    public void resolve(CombatCommandBatch commands) {
+        int[] attackers = commands.attackers;
+        int[] defenders = commands.defenders;
+        byte[] kinds = commands.kinds;
+        boolean[] parried = commands.parried;
+        byte[] outcomes = commands.outcomes;
+        int[] damageOut = commands.damage;
+        int[] shieldOut = commands.shieldDamage;
+        boolean[] killingBlows = commands.killingBlows;
+        int[] health = this.health;
+        int[] shield = this.shield;
+        int[] attack = this.attack;
+        int[] defense = this.defense;
+        int[] magic = this.magic;
+        int count = commands.size;
+        for (int i = 0; i < count; i++) {
+            int defender = defenders[i];
+            int defenderHealth = health[defender];
+            killingBlows[i] = false;
+            if (defenderHealth <= 0) {
+                outcomes[i] = ALREADY_DOWN;
+                damageOut[i] = 0;
+                shieldOut[i] = 0;
+                continue;
+            }
+            int attacker = attackers[i];
+            int dealt;
+            if (kinds[i] == CombatCommandBatch.MELEE) {
+                if (parried[i]) {
+                    outcomes[i] = PARRIED;
+                    damageOut[i] = 0;
+                    shieldOut[i] = 0;
+                    continue;
+                }
+                dealt = CombatSystem.meleeDamage(attack[attacker], defense[defender]);
+                outcomes[i] = MELEE_HIT;
+                shieldOut[i] = 0;
+            } else if (parried[i] && shield[defender] > 0) {
+                dealt = CombatSystem.shieldedMagicDamage(CombatSystem.magicDamage(magic[attacker], defense[defender]));
+                shield[defender] = Math.max(shield[defender] - CombatSystem.MAGIC_SHIELD_DURABILITY_COST, 0);
+                outcomes[i] = SHIELD_BLOCKED;
+                shieldOut[i] = CombatSystem.MAGIC_SHIELD_DURABILITY_COST;
+            } else {
+                dealt = CombatSystem.magicDamage(magic[attacker], defense[defender]);
+                outcomes[i] = MAGIC_HIT;
+                shieldOut[i] = 0;
+            }
+            health[defender] = Math.max(defenderHealth - dealt, 0);
+            damageOut[i] = dealt;
+            killingBlows[i] = dealt >= defenderHealth;
+        }
+    }
+
+    private void grow() {
+        int capacity = health.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        health = Arrays.copyOf(health, capacity);
+        shield = Arrays.copyOf(shield, capacity);
+        attack = Arrays.copyOf(attack, capacity);
+        defense = Arrays.copyOf(defense, capacity);
+        magic = Arrays.copyOf(magic, capacity);
+        appliedHealth = Arrays.copyOf(appliedHealth, capacity);
+        appliedShield = Arrays.copyOf(appliedShield, capacity);
+    }
+}
@@ -0,0 +1,91 @@
+package com.rpg;
+
+import java.util.Arrays;
+
+public class CombatCommandBatch {
+    static final byte MELEE = 0;
+    static final byte MAGIC = 1;
+
+    private static final CombatOutcome[] OUTCOMES = CombatOutcome.values();
+
+    int[] attackers;
+    int[] defenders;
+    byte[] kinds;
+    boolean[] parried;
+    byte[] outcomes;
+    int[] damage;
+    int[] shieldDamage;
+    boolean[] killingBlows;
+    int size;
+
+    public CombatCommandBatch(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        attackers = new int[capacity];
+        defenders = new int[capacity];
+        kinds = new byte[capacity];
+        parried = new boolean[capacity];
+        outcomes = new byte[capacity];
+        damage = new int[capacity];
+        shieldDamage = new int[capacity];
+        killingBlows = new boolean[capacity];
+    }
+
+    public int addMelee(int attacker, int defender, CombatDirection attackDirection, CombatDirection parryDirection) {
+        return add(MELEE, attacker, defender, attackDirection == parryDirection);
+    }
+
+    public int addMagic(int attacker, int defender, CombatDirection attackDirection, CombatDirection parryDirection) {
+        return add(MAGIC, attacker, defender, attackDirection == parryDirection);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public CombatOutcome getOutcome(int command) {
+        return OUTCOMES[outcomes[command]];
+    }
+
+    public int getDamageDealt(int command) {
+        return damage[command];
+    }
+
+    public int getShieldDamage(int command) {
+        return shieldDamage[command];
+    }
+
+    public int getDefender(int command) {
+        return defenders[command];
+    }
+
+    public boolean isKillingBlow(int command) {
+        return killingBlows[command];
+    }
+
+    private int add(byte kind, int attacker, int defender, boolean parry) {
+        if (size == attackers.length) {
+            grow();
+        }
+        attackers[size] = attacker;
+        defenders[size] = defender;
+        kinds[size] = kind;
+        parried[size] = parry;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = attackers.length * 2;
+        attackers = Arrays.copyOf(attackers, capacity);
+        defenders = Arrays.copyOf(defenders, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        parried = Arrays.copyOf(parried, capacity);
+        outcomes = Arrays.copyOf(outcomes, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        shieldDamage = Arrays.copyOf(shieldDamage, capacity);
+        killingBlows = Arrays.copyOf(killingBlows, capacity);
+    }
+}
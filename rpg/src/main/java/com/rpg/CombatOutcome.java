@@ -0,0 +1,26 @@
+package com.rpg;
+
+public enum CombatOutcome {
+    ALREADY_DOWN,
+    PARRIED,
+    MELEE_HIT,
+    SHIELD_BLOCKED,
+    MAGIC_HIT;
+
+    public String narrate(String defenderName, CombatDirection direction) {
+        switch (this) {
+            case ALREADY_DOWN:
+                return defenderName + " is already down.";
+            case PARRIED:
+                return "You parry the strike from the " + direction + ".";
+            case MELEE_HIT:
+                return "The strike lands from the " + direction + ".";
+            case SHIELD_BLOCKED:
+                return "You angle your shield into the " + direction + " bolt. It rattles the shield hard.";
+            case MAGIC_HIT:
+                return "The magic bolt hits from the " + direction + ".";
+            default:
+                throw new IllegalStateException("Unknown combat outcome: " + this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.rpg;
+
+public class CombatResultHolder {
+    private CombatOutcome outcome;
+    private CombatDirection direction;
+    private String defenderName;
+    private int damageDealt;
+    private int shieldDamage;
+    private boolean defenderKilled;
+
+    void set(
+            CombatOutcome outcome,
+            CombatDirection direction,
+            String defenderName,
+            int damageDealt,
+            int shieldDamage,
+            boolean defenderKilled
+    ) {
+        this.outcome = outcome;
+        this.direction = direction;
+        this.defenderName = defenderName;
+        this.damageDealt = damageDealt;
+        this.shieldDamage = shieldDamage;
+        this.defenderKilled = defenderKilled;
+    }
+
+    public CombatOutcome getOutcome() {
+        return outcome;
+    }
+
+    public CombatDirection getDirection() {
+        return direction;
+    }
+
+    public int getDamageDealt() {
+        return damageDealt;
+    }
+
+    public int getShieldDamage() {
+        return shieldDamage;
+    }
+
+    public boolean isDefenderKilled() {
+        return defenderKilled;
+    }
+
+    public String getNarration() {
+        return outcome == null ? null : outcome.narrate(defenderName, direction);
+    }
+
+    public CombatResult toResult() {
+        return new CombatResult(getNarration(), damageDealt, shieldDamage);
+    }
+}
@@ -3,78 +3,114 @@ package com.rpg;
 public class CombatSystem {
     private static final int BASE_MELEE_DAMAGE = 12;
     private static final int BASE_MAGIC_DAMAGE = 14;
-    private static final int MAGIC_SHIELD_DURABILITY_COST = 20;
+    static final int MAGIC_SHIELD_DURABILITY_COST = 20;
     private static final int MIN_MELEE_DAMAGE = 6;
     private static final int MIN_MAGIC_DAMAGE = 8;
+    private static final int MIN_SPELL_DAMAGE = 1;
 
     public CombatResult resolveMeleeAttack(
             Combatant attacker,
             Combatant defender,
             CombatDirection attackDirection,
             CombatDirection parryDirection
+    ) {
+        CombatResultHolder result = new CombatResultHolder();
+        resolveMeleeAttack(attacker, defender, attackDirection, parryDirection, result);
+        return result.toResult();
+    }
+
+    public CombatResult resolveMagicBolt(
+            Combatant attacker,
+            Combatant defender,
+            CombatDirection attackDirection,
+            CombatDirection parryDirection
+    ) {
+        CombatResultHolder result = new CombatResultHolder();
+        resolveMagicBolt(attacker, defender, attackDirection, parryDirection, result);
+        return result.toResult();
+    }
+
+    public CombatOutcome resolveMeleeAttack(
+            Combatant attacker,
+            Combatant defender,
+            CombatDirection attackDirection,
+            CombatDirection parryDirection,
+            CombatResultHolder result
     ) {
         if (!defender.isAlive()) {
-            return new CombatResult(defender.getName() + " is already down.", 0, 0);
+            result.set(CombatOutcome.ALREADY_DOWN, attackDirection, defender.getName(), 0, 0, false);
+            return CombatOutcome.ALREADY_DOWN;
         }
 
         if (attackDirection == parryDirection) {
-            return new CombatResult(
-                    "You parry the strike from the " + attackDirection + ".",
-                    0,
-                    0
-            );
+            result.set(CombatOutcome.PARRIED, attackDirection, defender.getName(), 0, 0, false);
+            return CombatOutcome.PARRIED;
         }
 
         int damage = calculateMeleeDamage(attacker, defender);
-        defender.takeDamage(damage);
-        return new CombatResult(
-                "The strike lands from the " + attackDirection + ".",
-                damage,
-                0
-        );
+        boolean killed = defender.takeDamage(damage);
+        result.set(CombatOutcome.MELEE_HIT, attackDirection, defender.getName(), damage, 0, killed);
+        return CombatOutcome.MELEE_HIT;
     }
 
-    public CombatResult resolveMagicBolt(
+    public CombatOutcome resolveMagicBolt(
             Combatant attacker,
             Combatant defender,
             CombatDirection attackDirection,
-            CombatDirection parryDirection
+            CombatDirection parryDirection,
+            CombatResultHolder result
     ) {
         if (!defender.isAlive()) {
-            return new CombatResult(defender.getName() + " is already down.", 0, 0);
+            result.set(CombatOutcome.ALREADY_DOWN, attackDirection, defender.getName(), 0, 0, false);
+            return CombatOutcome.ALREADY_DOWN;
         }
 
         int damage = calculateMagicDamage(attacker, defender);
 
         if (attackDirection == parryDirection && defender.getShieldDurability() > 0) {
-            defender.reduceShieldDurability(MAGIC_SHIELD_DURABILITY_COST);
-            int reducedDamage = Math.max((int) Math.round(damage * 0.6), MIN_MAGIC_DAMAGE);
-            defender.takeDamage(reducedDamage);
-            return new CombatResult(
-                    "You angle your shield into the " + attackDirection
-                            + " bolt. It rattles the shield hard.",
+            int reducedDamage = shieldedMagicDamage(damage);
+            boolean killed = defender.applyHit(reducedDamage, MAGIC_SHIELD_DURABILITY_COST);
+            result.set(
+                    CombatOutcome.SHIELD_BLOCKED,
+                    attackDirection,
+                    defender.getName(),
                     reducedDamage,
-                    MAGIC_SHIELD_DURABILITY_COST
+                    MAGIC_SHIELD_DURABILITY_COST,
+                    killed
             );
+            return CombatOutcome.SHIELD_BLOCKED;
         }
 
-        defender.takeDamage(damage);
-        return new CombatResult(
-                "The magic bolt hits from the " + attackDirection + ".",
-                damage,
-                0
-        );
+        boolean killed = defender.takeDamage(damage);
+        result.set(CombatOutcome.MAGIC_HIT, attackDirection, defender.getName(), damage, 0, killed);
+        return CombatOutcome.MAGIC_HIT;
     }
 
     private int calculateMeleeDamage(Combatant attacker, Combatant defender) {
-        int raw = BASE_MELEE_DAMAGE + attacker.getAttackPower();
-        int mitigated = raw - defender.getDefenseRating();
-        return Math.max(mitigated, MIN_MELEE_DAMAGE);
+        return meleeDamage(attacker.getAttackPower(), defender.getDefenseRating());
     }
 
     private int calculateMagicDamage(Combatant attacker, Combatant defender) {
-        int raw = BASE_MAGIC_DAMAGE + attacker.getMagicPower();
-        int mitigated = raw - (defender.getDefenseRating() / 2);
+        return magicDamage(attacker.getMagicPower(), defender.getDefenseRating());
+    }
+
+    static int meleeDamage(int attackPower, int defenseRating) {
+        int raw = BASE_MELEE_DAMAGE + attackPower;
+        int mitigated = raw - defenseRating;
+        return Math.max(mitigated, MIN_MELEE_DAMAGE);
+    }
+
+    static int magicDamage(int magicPower, int defenseRating) {
+        int raw = BASE_MAGIC_DAMAGE + magicPower;
+        int mitigated = raw - (defenseRating / 2);
         return Math.max(mitigated, MIN_MAGIC_DAMAGE);
     }
+
+    static int spellDamage(int spellPower, int defenseRating) {
+        return Math.max(spellPower - (defenseRating / 2), MIN_SPELL_DAMAGE);
+    }
+
+    static int shieldedMagicDamage(int damage) {
+        return Math.max((int) Math.round(damage * 0.6), MIN_MAGIC_DAMAGE);
+    }
 }
@@ -1,12 +1,33 @@
 package com.rpg;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 public class Combatant {
+    private static final VarHandle VITALS;
+    private static final VarHandle MANA;
+    private static final int DEFAULT_MANA = 100;
+
+    static {
+        try {
+            VITALS = MethodHandles.lookup().findVarHandle(Combatant.class, "vitals", long.class);
+            MANA = MethodHandles.lookup().findVarHandle(Combatant.class, "mana", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final String name;
-    private int health;
-    private int shieldDurability;
+    // Health in the high 32 bits, shield durability in the low 32 bits, updated together by CAS.
+    private volatile long vitals;
+    private volatile int mana;
+    private final int maxHealth;
+    private final int maxMana;
     private final int attackPower;
     private final int defenseRating;
     private final int magicPower;
+    private volatile double x;
+    private volatile double y;
 
     public Combatant(String name, int health, int shieldDurability) {
         this(name, health, shieldDurability, 12, 8, 10);
@@ -19,10 +40,24 @@ public class Combatant {
             int attackPower,
             int defenseRating,
             int magicPower
+    ) {
+        this(name, health, shieldDurability, attackPower, defenseRating, magicPower, DEFAULT_MANA);
+    }
+
+    public Combatant(
+            String name,
+            int health,
+            int shieldDurability,
+            int attackPower,
+            int defenseRating,
+            int magicPower,
+            int maxMana
     ) {
         this.name = name;
-        this.health = health;
-        this.shieldDurability = shieldDurability;
+        this.vitals = pack(Math.max(health, 0), Math.max(shieldDurability, 0));
+        this.maxHealth = Math.max(health, 0);
+        this.maxMana = Math.max(maxMana, 0);
+        this.mana = this.maxMana;
         this.attackPower = attackPower;
         this.defenseRating = defenseRating;
         this.magicPower = magicPower;
@@ -33,11 +68,23 @@ public class Combatant {
     }
 
     public int getHealth() {
-        return health;
+        return health(vitals);
     }
 
     public int getShieldDurability() {
-        return shieldDurability;
+        return shieldDurability(vitals);
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public int getMana() {
+        return mana;
+    }
+
+    public int getMaxMana() {
+        return maxMana;
     }
 
     public int getAttackPower() {
@@ -52,22 +99,91 @@ public class Combatant {
         return magicPower;
     }
 
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
     public boolean isAlive() {
-        return health > 0;
+        return getHealth() > 0;
+    }
+
+    public boolean takeDamage(int amount) {
+        return applyHit(amount, 0);
+    }
+
+    public void reduceShieldDurability(int amount) {
+        applyHit(0, amount);
     }
 
-    public void takeDamage(int amount) {
+    public boolean applyHit(int damage, int shieldCost) {
+        int healthLoss = Math.max(damage, 0);
+        int shieldLoss = Math.max(shieldCost, 0);
+        if (healthLoss == 0 && shieldLoss == 0) {
+            return false;
+        }
+        while (true) {
+            long current = vitals;
+            int health = health(current);
+            if (health == 0 && healthLoss > 0) {
+                return false;
+            }
+            int newHealth = Math.max(health - healthLoss, 0);
+            int newShield = Math.max(shieldDurability(current) - shieldLoss, 0);
+            if (VITALS.compareAndSet(this, current, pack(newHealth, newShield))) {
+                return health > 0 && newHealth == 0;
+            }
+        }
+    }
+
+    public int heal(int amount) {
         if (amount <= 0) {
-            return;
+            return 0;
+        }
+        while (true) {
+            long current = vitals;
+            int health = health(current);
+            if (health == 0) {
+                return 0;
+            }
+            int newHealth = Math.min(health + amount, maxHealth);
+            if (newHealth == health || VITALS.compareAndSet(this, current, pack(newHealth, shieldDurability(current)))) {
+                return newHealth - health;
+            }
         }
-        health = Math.max(health - amount, 0);
     }
 
-    public void reduceShieldDurability(int amount) {
+    public boolean spendMana(int amount) {
+        while (true) {
+            int current = mana;
+            if (current < amount) {
+                return false;
+            }
+            if (MANA.compareAndSet(this, current, current - Math.max(amount, 0))) {
+                return true;
+            }
+        }
+    }
+
+    public int restoreMana(int amount) {
         if (amount <= 0) {
-            return;
+            return 0;
+        }
+        while (true) {
+            int current = mana;
+            int restored = Math.min(current + amount, maxMana);
+            if (restored == current || MANA.compareAndSet(this, current, restored)) {
+                return restored - current;
+            }
         }
-        shieldDurability = Math.max(shieldDurability - amount, 0);
     }
 
     public int adjustDebuffDuration(int baseDurationSeconds, boolean usingShield) {
@@ -76,4 +192,16 @@ public class Combatant {
         }
         return baseDurationSeconds;
     }
+
+    private static long pack(int health, int shieldDurability) {
+        return ((long) health << 32) | (shieldDurability & 0xFFFFFFFFL);
+    }
+
+    private static int health(long vitals) {
+        return (int) (vitals >>> 32);
+    }
+
+    private static int shieldDurability(long vitals) {
+        return (int) vitals;
+    }
 }
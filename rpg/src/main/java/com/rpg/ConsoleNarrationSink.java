@@ -0,0 +1,30 @@
+package com.rpg;
+
+import java.io.PrintStream;
+
+public class ConsoleNarrationSink implements NarrationSink {
+    private final PrintStream out;
+
+    public ConsoleNarrationSink() {
+        this(System.out);
+    }
+
+    public ConsoleNarrationSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void emit(String line) {
+        out.println(line);
+    }
+
+    @Override
+    public void flush() {
+        out.flush();
+    }
+}
@@ -0,0 +1,89 @@
+package com.rpg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class FileNarrationSink implements NarrationSink {
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+    private static final byte NEWLINE = '\n';
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    public FileNarrationSink(Path filePath) {
+        this(filePath, DEFAULT_BUFFER_BYTES);
+    }
+
+    public FileNarrationSink(Path filePath, int bufferBytes) {
+        this.filePath = filePath;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        try {
+            this.channel = FileChannel.open(
+                    filePath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open narration file at " + filePath, e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public synchronized void emit(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length + 1 > buffer.remaining()) {
+            drain();
+        }
+        if (bytes.length + 1 > buffer.capacity()) {
+            write(ByteBuffer.wrap(bytes));
+            write(ByteBuffer.wrap(new byte[]{NEWLINE}));
+            return;
+        }
+        buffer.put(bytes).put(NEWLINE);
+    }
+
+    @Override
+    public synchronized void flush() {
+        drain();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        drain();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close narration file at " + filePath, e);
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer source) {
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write narration file at " + filePath, e);
+        }
+    }
+}
@@ -3,15 +3,19 @@ package com.rpg;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FileUserDatabase implements UserDatabase {
-    private final Map<String, UserRecord> users = new HashMap<>();
+    private final Map<String, UserRecord> users = new ConcurrentHashMap<>();
+    private final Path filePath;
 
     public FileUserDatabase(Path filePath) {
+        this.filePath = filePath;
         loadUsers(filePath);
     }
 
@@ -20,25 +24,57 @@ public class FileUserDatabase implements UserDatabase {
         return Optional.ofNullable(users.get(username.toLowerCase()));
     }
 
+    @Override
+    public synchronized boolean updateUser(UserRecord record) {
+        String key = record.getUsername().toLowerCase();
+        String row = record.getUsername() + "," + record.getPasswordHash() + "," + record.getRole();
+        try {
+            List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+            boolean replaced = false;
+            for (int i = 0; i < lines.size(); i++) {
+                UserRecord existing = parseLine(lines.get(i));
+                if (existing != null && existing.getUsername().toLowerCase().equals(key)) {
+                    lines.set(i, row);
+                    replaced = true;
+                }
+            }
+            if (!replaced) {
+                lines.add(row);
+            }
+            // Write a sibling file and rename it over the original so a crash never leaves a half-written store.
+            Path temp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+            Files.write(temp, lines);
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to update users database at " + filePath, e);
+        }
+        users.put(key, record);
+        return true;
+    }
+
     private void loadUsers(Path filePath) {
         try {
             List<String> lines = Files.readAllLines(filePath);
             for (String line : lines) {
-                String trimmed = line.trim();
-                if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("username,")) {
-                    continue;
+                UserRecord record = parseLine(line);
+                if (record != null) {
+                    users.put(record.getUsername().toLowerCase(), record);
                 }
-                String[] parts = trimmed.split(",", 3);
-                if (parts.length < 3) {
-                    continue;
-                }
-                String username = parts[0].trim();
-                String hash = parts[1].trim();
-                String role = parts[2].trim();
-                users.put(username.toLowerCase(), new UserRecord(username, hash, role));
             }
         } catch (IOException e) {
             throw new IllegalStateException("Failed to load users database at " + filePath, e);
         }
     }
+
+    static UserRecord parseLine(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.startsWith("username,")) {
+            return null;
+        }
+        String[] parts = trimmed.split(",", 3);
+        if (parts.length < 3) {
+            return null;
+        }
+        return new UserRecord(parts[0].trim(), parts[1].trim(), parts[2].trim());
+    }
 }
@@ -4,26 +4,46 @@ public class GameEngine {
     private final GameWorld world;
     private final Player player;
     private final AiAgent agent;
+    private final NarrationSink narration;
 
     public GameEngine(GameWorld world, Player player, AiAgent agent) {
+        this(world, player, agent, new ConsoleNarrationSink());
+    }
+
+    public GameEngine(GameWorld world, Player player, AiAgent agent, NarrationSink narration) {
         this.world = world;
         this.player = player;
         this.agent = agent;
+        this.narration = narration;
     }
 
     public void run(int turns) {
         for (int turn = 1; turn <= turns; turn++) {
-            SkillAction action = agent.chooseAction(player, world);
-            if (action == null) {
-                System.out.println("No available actions to perform.");
+            if (!playTurn(turn)) {
                 break;
             }
-            player.trainSkill(action.getSkillType(), action.getExperienceReward());
-            System.out.println("Turn " + turn + ": " + action.getName());
-            System.out.println(action.getNarrative());
-            System.out.println("Gained " + action.getExperienceReward() + " XP in " + action.getSkillType() + ".");
-            System.out.println();
         }
-        System.out.println(player.skillSummary());
+        narration.emit(player::skillSummary);
+    }
+
+    public void run(int turns, TickScheduler scheduler) {
+        scheduler.run(turns, tick -> playTurn((int) tick));
+        narration.emit(player::skillSummary);
+    }
+
+    private boolean playTurn(int turn) {
+        SkillAction action = agent.chooseAction(player, world);
+        if (action == null) {
+            narration.emit("No available actions to perform.");
+            return false;
+        }
+        player.trainSkill(action.getSkillType(), action.getExperienceReward());
+        if (narration.isEnabled()) {
+            narration.emit("Turn " + turn + ": " + action.getName());
+            narration.emit(action.getNarrative());
+            narration.emit("Gained " + action.getExperienceReward() + " XP in " + action.getSkillType() + ".");
+            narration.emit("");
+        }
+        return true;
     }
 }
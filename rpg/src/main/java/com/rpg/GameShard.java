@@ -0,0 +1,42 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GameShard {
+    private final int index;
+    private final List<PlayerSession> sessions = new ArrayList<>();
+    private long actionsPerformed;
+
+    public GameShard(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<PlayerSession> getSessions() {
+        return Collections.unmodifiableList(sessions);
+    }
+
+    public long getActionsPerformed() {
+        return actionsPerformed;
+    }
+
+    void addSession(PlayerSession session) {
+        sessions.add(session);
+    }
+
+    int advance(GameWorld world) {
+        int acted = 0;
+        for (int i = 0; i < sessions.size(); i++) {
+            if (sessions.get(i).advance(world)) {
+                acted++;
+            }
+        }
+        actionsPerformed += acted;
+        return acted;
+    }
+}
@@ -0,0 +1,146 @@
+package com.rpg;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Inventory {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final AtomicLong NEXT_LOCK_ORDER = new AtomicLong();
+
+    private final long lockOrder = NEXT_LOCK_ORDER.getAndIncrement();
+    private int[] itemIds;
+    private int[] counts;
+    private int size;
+
+    public Inventory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Inventory(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.itemIds = new int[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized int getItemId(int slot) {
+        checkSlot(slot);
+        return itemIds[slot];
+    }
+
+    public synchronized int getCount(int slot) {
+        checkSlot(slot);
+        return counts[slot];
+    }
+
+    public synchronized int countOf(int itemId) {
+        int slot = indexOf(itemId);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    public int countOf(String itemName) {
+        return countOf(ItemRegistry.idOf(itemName));
+    }
+
+    public synchronized void add(int itemId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Item count must be positive: " + count);
+        }
+        int slot = indexOf(itemId);
+        if (slot >= 0) {
+            counts[slot] += count;
+            return;
+        }
+        ensureCapacity(size + 1);
+        itemIds[size] = itemId;
+        counts[size] = count;
+        size++;
+    }
+
+    public void add(String itemName, int count) {
+        add(ItemRegistry.idOf(itemName), count);
+    }
+
+    public synchronized int remove(int itemId, int count) {
+        int slot = indexOf(itemId);
+        if (slot < 0 || count <= 0) {
+            return 0;
+        }
+        int removed = Math.min(count, counts[slot]);
+        counts[slot] -= removed;
+        if (counts[slot] == 0) {
+            size--;
+            itemIds[slot] = itemIds[size];
+            counts[slot] = counts[size];
+        }
+        return removed;
+    }
+
+    public int transferAllTo(Inventory target) {
+        if (target == this) {
+            return 0;
+        }
+        // Lock in creation order (unique, unlike identity hashes) so two inventories draining into each other cannot deadlock.
+        Inventory first = lockOrder < target.lockOrder ? this : target;
+        Inventory second = first == this ? target : this;
+        synchronized (first) {
+            synchronized (second) {
+                int moved = size;
+                target.absorb(itemIds, counts, size);
+                size = 0;
+                return moved;
+            }
+        }
+    }
+
+    private void absorb(int[] sourceIds, int[] sourceCounts, int sourceSize) {
+        if (size == 0) {
+            ensureCapacity(sourceSize);
+            System.arraycopy(sourceIds, 0, itemIds, 0, sourceSize);
+            System.arraycopy(sourceCounts, 0, counts, 0, sourceSize);
+            size = sourceSize;
+            return;
+        }
+        ensureCapacity(size + sourceSize);
+        for (int i = 0; i < sourceSize; i++) {
+            int slot = indexOf(sourceIds[i]);
+            if (slot >= 0) {
+                counts[slot] += sourceCounts[i];
+            } else {
+                itemIds[size] = sourceIds[i];
+                counts[size] = sourceCounts[i];
+                size++;
+            }
+        }
+    }
+
+    private int indexOf(int itemId) {
+        for (int i = 0; i < size; i++) {
+            if (itemIds[i] == itemId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > itemIds.length) {
+            int capacity = Math.max(required, itemIds.length * 2);
+            itemIds = Arrays.copyOf(itemIds, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Inventory slot " + slot + " out of " + size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+class ItemNameIndex {
+    private volatile Set<String> items = Set.of();
+    private volatile Map<String, List<String>> postings = Map.of();
+
+    boolean contains(String itemName) {
+        return items.contains(itemName);
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    synchronized void add(String itemName) {
+        if (items.contains(itemName)) {
+            return;
+        }
+        // Copy-on-write: new item names are rare next to searches, which read the published maps without locking.
+        Map<String, List<String>> next = new HashMap<>(postings);
+        for (String token : tokenize(itemName)) {
+            List<String> posting = new ArrayList<>(next.getOrDefault(token, List.of()));
+            int at = -Collections.binarySearch(posting, itemName) - 1;
+            if (at >= 0) {
+                posting.add(at, itemName);
+            }
+            next.put(token, List.copyOf(posting));
+        }
+        Set<String> nextItems = new HashSet<>(items);
+        nextItems.add(itemName);
+        postings = Map.copyOf(next);
+        items = Set.copyOf(nextItems);
+    }
+
+    List<String> search(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<String>> current = postings;
+        List<String> smallest = null;
+        for (String token : tokens) {
+            List<String> posting = current.get(token);
+            if (posting == null) {
+                return List.of();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        List<String> matches = new ArrayList<>();
+        for (String itemName : smallest) {
+            if (containsAll(current, tokens, itemName)) {
+                matches.add(itemName);
+            }
+        }
+        return matches;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean containsAll(Map<String, List<String>> current, List<String> tokens, String itemName) {
+        for (String token : tokens) {
+            if (Collections.binarySearch(current.get(token), itemName) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,43 @@
+package com.rpg;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ItemRegistry {
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[64];
+    private static int nextId;
+
+    private ItemRegistry() {
+    }
+
+    public static int idOf(String itemName) {
+        Integer id = IDS.get(itemName);
+        return id != null ? id : register(itemName);
+    }
+
+    public static String nameOf(int itemId) {
+        String[] current = names;
+        if (itemId < 0 || itemId >= current.length || current[itemId] == null) {
+            throw new IllegalArgumentException("Unknown item id: " + itemId);
+        }
+        return current[itemId];
+    }
+
+    private static synchronized int register(String itemName) {
+        Integer existing = IDS.get(itemName);
+        if (existing != null) {
+            return existing;
+        }
+        int id = nextId++;
+        String[] current = names;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = itemName;
+        names = current;
+        IDS.put(itemName, id);
+        return id;
+    }
+}
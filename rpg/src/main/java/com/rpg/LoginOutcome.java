@@ -0,0 +1,9 @@
+package com.rpg;
+
+public enum LoginOutcome {
+    GRANTED,
+    UNKNOWN_USER,
+    INVALID_PASSWORD,
+    ROLE_DENIED,
+    REJECTED_BUSY
+}
@@ -6,6 +6,12 @@ public class LoginScreen {
     private static final int MAX_ATTEMPTS = 3;
 
     public boolean authenticateAdmin(Scanner scanner, UserDatabase userDatabase) {
+        try (LoginService loginService = new LoginService(userDatabase)) {
+            return authenticateAdmin(scanner, loginService);
+        }
+    }
+
+    public boolean authenticateAdmin(Scanner scanner, LoginService loginService) {
         System.out.println("=== Ashen Gate: Warden Access ===");
         System.out.println("A cold ember glow clings to the stone. The gate listens.");
         for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
@@ -13,7 +19,7 @@ public class LoginScreen {
             String username = scanner.nextLine().trim();
             System.out.print("Oath phrase: ");
             String password = scanner.nextLine().trim();
-            if (isValidAdmin(username, password, userDatabase)) {
+            if (loginService.authenticate(username, password, "ADMIN") == LoginOutcome.GRANTED) {
                 System.out.println("The gate recognizes your oath. Proceed.\n");
                 return true;
             }
@@ -21,11 +27,4 @@ public class LoginScreen {
         }
         return false;
     }
-
-    private boolean isValidAdmin(String username, String password, UserDatabase userDatabase) {
-        return userDatabase.verifyCredentials(username, password)
-                && userDatabase.findUser(username)
-                .map(record -> "ADMIN".equalsIgnoreCase(record.getRole()))
-                .orElse(false);
-    }
 }
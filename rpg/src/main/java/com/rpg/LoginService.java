@@ -0,0 +1,118 @@
+package com.rpg;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoginService implements AutoCloseable {
+    private static final int DEFAULT_QUEUE_DEPTH = 1024;
+
+    private final UserDatabase userDatabase;
+    private final PasswordHasher hasher;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong upgraded = new AtomicLong();
+
+    public LoginService(UserDatabase userDatabase) {
+        this(userDatabase, new PasswordHasher(), defaultWorkers(), DEFAULT_QUEUE_DEPTH);
+    }
+
+    public LoginService(UserDatabase userDatabase, PasswordHasher hasher, int workers, int queueDepth) {
+        this(userDatabase, hasher, newVerificationPool(workers, queueDepth), true);
+    }
+
+    public LoginService(UserDatabase userDatabase, PasswordHasher hasher, ExecutorService executor) {
+        this(userDatabase, hasher, executor, false);
+    }
+
+    private LoginService(
+            UserDatabase userDatabase,
+            PasswordHasher hasher,
+            ExecutorService executor,
+            boolean ownsExecutor
+    ) {
+        this.userDatabase = userDatabase;
+        this.hasher = hasher;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public LoginOutcome authenticate(String username, String password, String requiredRole) {
+        Optional<UserRecord> record = userDatabase.findUser(username);
+        PasswordHash stored = record.map(UserRecord::getStoredHash).orElse(null);
+        boolean matches = stored != null && hasher.matches(password, stored);
+        // Unknown names, legacy SHA-256 rows and under-cost PBKDF2 rows are topped up to one PBKDF2 at the
+        // current cost, so response time does not reveal which names exist or how their rows are stored.
+        hasher.padToCurrentCost(password, stored);
+        if (record.isEmpty()) {
+            return LoginOutcome.UNKNOWN_USER;
+        }
+        UserRecord user = record.get();
+        if (!matches) {
+            return LoginOutcome.INVALID_PASSWORD;
+        }
+        if (hasher.needsUpgrade(user.getStoredHash())) {
+            UserRecord rehashed = new UserRecord(user.getUsername(), hasher.encode(password), user.getRole());
+            if (userDatabase.updateUser(rehashed)) {
+                upgraded.incrementAndGet();
+            }
+        }
+        if (requiredRole != null && !requiredRole.equalsIgnoreCase(user.getRole())) {
+            return LoginOutcome.ROLE_DENIED;
+        }
+        return LoginOutcome.GRANTED;
+    }
+
+    public CompletableFuture<LoginOutcome> submit(String username, String password, String requiredRole) {
+        try {
+            return CompletableFuture.supplyAsync(() -> authenticate(username, password, requiredRole), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.completedFuture(LoginOutcome.REJECTED_BUSY);
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getUpgradedCount() {
+        return upgraded.get();
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static int defaultWorkers() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    private static ExecutorService newVerificationPool(int workers, int queueDepth) {
+        if (workers <= 0 || queueDepth <= 0) {
+            throw new IllegalArgumentException("Workers and queue depth must be positive");
+        }
+        return new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueDepth),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-verifier");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
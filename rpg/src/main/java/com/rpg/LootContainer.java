@@ -0,0 +1,35 @@
+package com.rpg;
+
+public class LootContainer {
+    private final String ownerName;
+    private final String areaName;
+    private final long createdMillis;
+    private final Inventory contents;
+
+    public LootContainer(String ownerName, String areaName, long createdMillis, Inventory contents) {
+        this.ownerName = ownerName;
+        this.areaName = areaName;
+        this.createdMillis = createdMillis;
+        this.contents = contents;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public String getAreaName() {
+        return areaName;
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    public Inventory getContents() {
+        return contents;
+    }
+
+    public int lootInto(Inventory target) {
+        return contents.transferAllTo(target);
+    }
+}
@@ -0,0 +1,6 @@
+package com.rpg;
+
+public enum LootRule {
+    KEEP_ON_DEATH,
+    FULL_LOOT
+}
@@ -0,0 +1,50 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LootSystem {
+    public LootContainer onKillingBlow(Player victim, Area area) {
+        if (area.getLootRule() != LootRule.FULL_LOOT) {
+            return null;
+        }
+        Inventory carried = victim.getInventory();
+        if (carried.isEmpty()) {
+            return null;
+        }
+        Inventory contents = new Inventory(carried.size());
+        carried.transferAllTo(contents);
+        return new LootContainer(victim.getName(), area.getName(), System.currentTimeMillis(), contents);
+    }
+
+    public LootContainer resolveDeath(Combatant defender, boolean killed, Area area) {
+        if (!killed || !(defender instanceof Player)) {
+            return null;
+        }
+        return onKillingBlow((Player) defender, area);
+    }
+
+    public List<LootContainer> resolveDeaths(
+            CombatBatch batch,
+            CombatCommandBatch commands,
+            List<? extends Combatant> combatants,
+            Area area
+    ) {
+        // Batch damage lives in the batch's columns until written back; loot only players who are really down.
+        batch.applyTo(combatants);
+        List<LootContainer> containers = new ArrayList<>();
+        if (area.getLootRule() != LootRule.FULL_LOOT) {
+            return containers;
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            Combatant defender = combatants.get(commands.getDefender(i));
+            if (commands.isKillingBlow(i) && !defender.isAlive()) {
+                LootContainer container = resolveDeath(defender, true, area);
+                if (container != null) {
+                    containers.add(container);
+                }
+            }
+        }
+        return containers;
+    }
+}
@@ -14,81 +14,85 @@ public class Main {
             return;
         }
 
-        GameWorld world = new GameWorld();
-        Player player = new Player("Adventurer");
-        AiAgent agent = new BasicPlannerAgent();
-        GameEngine engine = new GameEngine(world, player, agent);
-        engine.run(10);
+        try (NarrationSink narration = new AsyncNarrationSink(System.out)) {
+            GameWorld world = new GameWorld();
+            Player player = new Player("Adventurer");
+            AiAgent agent = new BasicPlannerAgent();
+            GraphicsProfile graphicsProfile = new GraphicsProfile(
+                    "Old-School RuneStones",
+                    "Low-poly silhouettes, crisp tiles, and readable silhouettes for smooth, lightweight play.",
+                    50,
+                    32,
+                    List.of(
+                            "Fixed isometric camera with minimal sway.",
+                            "Muted palette with high-contrast interactables.",
+                            "Compact VFX to keep combat readable."
+                    )
+            );
+            GameEngine engine = new GameEngine(world, player, agent, narration);
+            TickScheduler scheduler = TickScheduler.forProfile(graphicsProfile);
+            engine.run(10, scheduler);
+            narration.emit("Tick metrics: " + scheduler.getMetrics());
 
-        CombatSystem combatSystem = new CombatSystem();
-        Npc opponent = world.getTrainingNpcs().get(0);
-        System.out.println("You step into a first-person sparring ring.");
-        CombatResult parryResult = combatSystem.resolveMeleeAttack(
-                opponent,
-                player,
-                CombatDirection.NORTH,
-                CombatDirection.NORTH
-        );
-        System.out.println(parryResult.getNarration());
-        CombatResult boltResult = combatSystem.resolveMagicBolt(
-                opponent,
-                player,
-                CombatDirection.EAST,
-                CombatDirection.EAST
-        );
-        System.out.println(boltResult.getNarration());
-        System.out.println("Your shield durability is now " + player.getShieldDurability() + ".");
+            CombatSystem combatSystem = new CombatSystem();
+            Npc opponent = world.getTrainingNpcs().get(0);
+            narration.emit("You step into a first-person sparring ring.");
+            CombatResult parryResult = combatSystem.resolveMeleeAttack(
+                    opponent,
+                    player,
+                    CombatDirection.NORTH,
+                    CombatDirection.NORTH
+            );
+            narration.emit(parryResult.getNarration());
+            CombatResult boltResult = combatSystem.resolveMagicBolt(
+                    opponent,
+                    player,
+                    CombatDirection.EAST,
+                    CombatDirection.EAST
+            );
+            narration.emit(boltResult.getNarration());
+            narration.emit("Your shield durability is now " + player.getShieldDurability() + ".");
 
-        SkillAnimation cookingAnimation = world.getAnimationCatalog().getAnimationForSkill(SkillType.COOKING);
-        System.out.println("Animation preview: " + cookingAnimation.getTitle());
-        for (AnimationStep step : cookingAnimation.getSteps()) {
-            System.out.println("- " + step.getDescription());
-        }
+            SkillAnimation cookingAnimation = world.getAnimationCatalog().getAnimationForSkill(SkillType.COOKING);
+            narration.emit("Animation preview: " + cookingAnimation.getTitle());
+            for (AnimationStep step : cookingAnimation.getSteps()) {
+                narration.emit("- " + step.getDescription());
+            }
 
-        Area starterArea = world.getAreas().get(0);
-        System.out.println("Area discovered: " + starterArea.getName());
-        System.out.println(starterArea.getDescription());
-        GraphicsProfile graphicsProfile = new GraphicsProfile(
-                "Old-School RuneStones",
-                "Low-poly silhouettes, crisp tiles, and readable silhouettes for smooth, lightweight play.",
-                50,
-                32,
-                List.of(
-                        "Fixed isometric camera with minimal sway.",
-                        "Muted palette with high-contrast interactables.",
-                        "Compact VFX to keep combat readable."
-                )
-        );
-        System.out.println("Graphics profile: " + graphicsProfile.getName());
-        System.out.println(graphicsProfile.getDescription());
-        System.out.println("Target FPS: " + graphicsProfile.getTargetFps() + ", Tile Size: " + graphicsProfile.getTileSize());
-        for (String note : graphicsProfile.getVisualNotes()) {
-            System.out.println("- " + note);
-        }
-        System.out.println("Resources:");
-        for (ResourceNode node : starterArea.getResources()) {
-            System.out.println("- " + node.getName() + " (" + node.getResourceItem() + ")");
-        }
-        System.out.println("Monsters:");
-        for (Npc monster : starterArea.getMonsters()) {
-            System.out.println("- " + monster.getName());
-        }
+            Area starterArea = world.enterArea(GameWorld.STARTER_AREA_ID);
+            narration.emit("Area discovered: " + starterArea.getName());
+            narration.emit(starterArea.getDescription());
+            narration.emit("Graphics profile: " + graphicsProfile.getName());
+            narration.emit(graphicsProfile.getDescription());
+            narration.emit("Target FPS: " + graphicsProfile.getTargetFps() + ", Tile Size: " + graphicsProfile.getTileSize());
+            for (String note : graphicsProfile.getVisualNotes()) {
+                narration.emit("- " + note);
+            }
+            narration.emit("Resources:");
+            for (ResourceNode node : starterArea.getResources()) {
+                narration.emit("- " + node.getName() + " (" + node.getResourceItem() + ")");
+            }
+            narration.emit("Monsters:");
+            for (Npc monster : starterArea.getMonsters()) {
+                narration.emit("- " + monster.getName());
+            }
 
-        if (!starterArea.getSkillTutors().isEmpty()) {
-            System.out.println("Guides:");
-            for (SkillTutor tutor : starterArea.getSkillTutors()) {
-                System.out.println("- " + tutor.getName() + ": " + tutor.getDescription());
-                for (SkillLesson lesson : tutor.getLessons()) {
-                    System.out.println("  * " + lesson.getSkillType() + ": " + lesson.getOverview());
-                    System.out.println("    Starter items: " + String.join(", ", lesson.getStarterItems()));
+            if (!starterArea.getSkillTutors().isEmpty()) {
+                narration.emit("Guides:");
+                for (SkillTutor tutor : starterArea.getSkillTutors()) {
+                    narration.emit("- " + tutor.getName() + ": " + tutor.getDescription());
+                    for (SkillLesson lesson : tutor.getLessons()) {
+                        narration.emit("  * " + lesson.getSkillType() + ": " + lesson.getOverview());
+                        narration.emit("    Starter items: " + String.join(", ", lesson.getStarterItems()));
+                    }
                 }
             }
-        }
 
-        AuctionHouse auctionHouse = starterArea.getAuctionHouse();
-        if (auctionHouse != null) {
-            System.out.println("Auction House: " + auctionHouse.getName());
-            System.out.println(auctionHouse.getDescription());
+            AuctionHouse auctionHouse = starterArea.getAuctionHouse();
+            if (auctionHouse != null) {
+                narration.emit("Auction House: " + auctionHouse.getName());
+                narration.emit(auctionHouse.getDescription());
+            }
         }
     }
 }
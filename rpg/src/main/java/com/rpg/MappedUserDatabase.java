@@ -0,0 +1,307 @@
+package com.rpg;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class MappedUserDatabase implements UserDatabase, AutoCloseable {
+    private static final int DATA_MAGIC = 0x52504755;
+    private static final int INDEX_MAGIC = 0x52504749;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 12;
+    private static final int INITIAL_DATA_BYTES = 1 << 20;
+    private static final int INITIAL_INDEX_SLOTS = 1 << 10;
+    private static final int MAX_FIELD_BYTES = Short.MAX_VALUE;
+
+    private final Path dataPath;
+    private final Path indexPath;
+    private final FileChannel dataChannel;
+    private final FileChannel indexChannel;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer data;
+    private MappedByteBuffer index;
+    private long dataEnd;
+    private int slotCount;
+    private int userCount;
+
+    public MappedUserDatabase(Path dataPath, Path indexPath) {
+        this.dataPath = dataPath;
+        this.indexPath = indexPath;
+        try {
+            boolean exists = Files.exists(dataPath) && Files.size(dataPath) > 0;
+            dataChannel = open(dataPath);
+            indexChannel = open(indexPath);
+            if (exists) {
+                openExisting();
+            } else {
+                initialize();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open user store at " + dataPath, e);
+        }
+    }
+
+    public static MappedUserDatabase importCsv(Path csvPath, Path dataPath, Path indexPath) {
+        MappedUserDatabase database = new MappedUserDatabase(dataPath, indexPath);
+        try (BufferedReader reader = Files.newBufferedReader(csvPath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                UserRecord record = FileUserDatabase.parseLine(line);
+                if (record != null) {
+                    database.addUser(record);
+                }
+            }
+        } catch (IOException e) {
+            database.close();
+            throw new IllegalStateException("Failed to import users database at " + csvPath, e);
+        }
+        return database;
+    }
+
+    @Override
+    public Optional<UserRecord> findUser(String username) {
+        String key = username.toLowerCase();
+        int hash = hash(key);
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(key, hash);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(decodeRecord(index.getLong(slotOffset(slot))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addUser(UserRecord record) {
+        String key = record.getUsername().toLowerCase();
+        int hash = hash(key);
+        byte[] username = encode(record.getUsername());
+        byte[] passwordHash = encode(record.getPasswordHash());
+        byte[] role = encode(record.getRole());
+        int recordBytes = 6 + username.length + passwordHash.length + role.length;
+        lock.writeLock().lock();
+        try {
+            ensureDataCapacity(dataEnd + recordBytes);
+            long recordOffset = dataEnd;
+            int position = (int) recordOffset;
+            position = putField(position, username);
+            position = putField(position, passwordHash);
+            putField(position, role);
+            dataEnd += recordBytes;
+            data.putLong(8, dataEnd);
+
+            int existing = findSlot(key, hash);
+            if (existing >= 0) {
+                index.putLong(slotOffset(existing), recordOffset);
+                return;
+            }
+            if ((userCount + 1) * 2L > slotCount) {
+                resizeIndex(slotCount * 2);
+            }
+            insertSlot(recordOffset, hash);
+            userCount++;
+            index.putInt(8, userCount);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to append user to " + dataPath, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateUser(UserRecord record) {
+        addUser(record);
+        return true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return userCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            data.force();
+            index.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            data.force();
+            index.force();
+            dataChannel.close();
+            indexChannel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close user store at " + dataPath, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void initialize() throws IOException {
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_DATA_BYTES);
+        data.putInt(0, DATA_MAGIC);
+        data.putInt(4, FORMAT_VERSION);
+        dataEnd = HEADER_BYTES;
+        data.putLong(8, dataEnd);
+        slotCount = INITIAL_INDEX_SLOTS;
+        index = mapIndex(indexChannel, slotCount);
+        userCount = 0;
+    }
+
+    private void openExisting() throws IOException {
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, dataChannel.size());
+        if (data.getInt(0) != DATA_MAGIC || data.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unrecognized user store format at " + dataPath);
+        }
+        dataEnd = data.getLong(8);
+        if (indexChannel.size() < HEADER_BYTES) {
+            throw new IllegalStateException("Missing user index at " + indexPath);
+        }
+        MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt(0) != INDEX_MAGIC) {
+            throw new IllegalStateException("Unrecognized user index format at " + indexPath);
+        }
+        slotCount = header.getInt(4);
+        userCount = header.getInt(8);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slotCount * SLOT_BYTES);
+    }
+
+    private int findSlot(String key, int hash) {
+        int mask = slotCount - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int offset = slotOffset(slot);
+            long recordOffset = index.getLong(offset);
+            if (recordOffset == 0) {
+                return -1;
+            }
+            if (index.getInt(offset + 8) == hash && key.equals(decodeUsername(recordOffset).toLowerCase())) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertSlot(long recordOffset, int hash) {
+        int mask = slotCount - 1;
+        int slot = hash & mask;
+        while (index.getLong(slotOffset(slot)) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index.putLong(slotOffset(slot), recordOffset);
+        index.putInt(slotOffset(slot) + 8, hash);
+    }
+
+    private void resizeIndex(int newSlotCount) throws IOException {
+        long[] recordOffsets = new long[userCount];
+        int[] hashes = new int[userCount];
+        int copied = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            long recordOffset = index.getLong(slotOffset(slot));
+            if (recordOffset != 0) {
+                recordOffsets[copied] = recordOffset;
+                hashes[copied] = index.getInt(slotOffset(slot) + 8);
+                copied++;
+            }
+        }
+        index = mapIndex(indexChannel, newSlotCount);
+        slotCount = newSlotCount;
+        for (int slot = 0; slot < slotCount; slot++) {
+            index.putLong(slotOffset(slot), 0L);
+        }
+        for (int i = 0; i < copied; i++) {
+            insertSlot(recordOffsets[i], hashes[i]);
+        }
+        index.putInt(8, userCount);
+    }
+
+    private void ensureDataCapacity(long required) throws IOException {
+        if (required <= data.capacity()) {
+            return;
+        }
+        long capacity = data.capacity();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("User store at " + dataPath + " exceeds the 2 GB mapping limit");
+        }
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private UserRecord decodeRecord(long recordOffset) {
+        int position = (int) recordOffset;
+        String username = readField(position);
+        position += 2 + (data.getShort(position) & 0xFFFF);
+        String passwordHash = readField(position);
+        position += 2 + (data.getShort(position) & 0xFFFF);
+        String role = readField(position);
+        return new UserRecord(username, passwordHash, role);
+    }
+
+    private String decodeUsername(long recordOffset) {
+        return readField((int) recordOffset);
+    }
+
+    private String readField(int position) {
+        int length = data.getShort(position) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        data.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int putField(int position, byte[] bytes) {
+        data.putShort(position, (short) bytes.length);
+        data.put(position + 2, bytes);
+        return position + 2 + bytes.length;
+    }
+
+    private static MappedByteBuffer mapIndex(FileChannel channel, int slots) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slots * SLOT_BYTES);
+        mapped.putInt(0, INDEX_MAGIC);
+        mapped.putInt(4, slots);
+        mapped.putInt(8, 0);
+        return mapped;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("User field exceeds " + MAX_FIELD_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
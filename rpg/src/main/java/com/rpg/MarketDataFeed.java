@@ -0,0 +1,106 @@
+package com.rpg;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MarketDataFeed implements TradeListener, AutoCloseable {
+    private static final MarketWindow[] WINDOWS = MarketWindow.values();
+    private static final long EXPIRY_PERIOD_MILLIS = 1_000L;
+
+    private final Map<String, ItemAggregate> aggregates = new HashMap<>();
+    private final Map<String, MarketSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService expiry;
+
+    public MarketDataFeed(String name) {
+        this.expiry = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "market-data-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        expiry.scheduleAtFixedRate(
+                () -> expire(System.currentTimeMillis()),
+                EXPIRY_PERIOD_MILLIS,
+                EXPIRY_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public synchronized void onTrade(Trade trade) {
+        ItemAggregate aggregate = aggregates.computeIfAbsent(trade.getItemName(), ItemAggregate::new);
+        aggregate.record(trade);
+        snapshots.put(trade.getItemName(), aggregate.snapshot());
+    }
+
+    public synchronized void expire(long nowMillis) {
+        for (ItemAggregate aggregate : aggregates.values()) {
+            if (aggregate.expire(nowMillis)) {
+                snapshots.put(aggregate.itemName, aggregate.snapshot());
+            }
+        }
+    }
+
+    public MarketSnapshot getSnapshot(String itemName) {
+        return snapshots.get(itemName);
+    }
+
+    public long getLastPrice(String itemName) {
+        MarketSnapshot snapshot = snapshots.get(itemName);
+        return snapshot == null ? 0 : snapshot.getLastPrice();
+    }
+
+    public Map<String, MarketSnapshot> getSnapshots() {
+        return Map.copyOf(snapshots);
+    }
+
+    @Override
+    public void close() {
+        expiry.shutdownNow();
+    }
+
+    private static final class ItemAggregate {
+        private final String itemName;
+        private final RollingPriceWindow[] windows = new RollingPriceWindow[WINDOWS.length];
+        private long lastPrice;
+        private int lastQuantity;
+        private long lastTradeMillis;
+        private long totalVolume;
+
+        private ItemAggregate(String itemName) {
+            this.itemName = itemName;
+            for (MarketWindow window : WINDOWS) {
+                windows[window.ordinal()] = new RollingPriceWindow(window);
+            }
+        }
+
+        private void record(Trade trade) {
+            lastPrice = trade.getPrice();
+            lastQuantity = trade.getQuantity();
+            lastTradeMillis = Math.max(lastTradeMillis, trade.getTimestampMillis());
+            totalVolume += trade.getQuantity();
+            for (RollingPriceWindow window : windows) {
+                window.record(trade.getTimestampMillis(), trade.getPrice(), trade.getQuantity());
+            }
+        }
+
+        private boolean expire(long nowMillis) {
+            boolean changed = false;
+            for (RollingPriceWindow window : windows) {
+                changed |= window.expire(nowMillis);
+            }
+            return changed;
+        }
+
+        private MarketSnapshot snapshot() {
+            WindowStats[] stats = new WindowStats[windows.length];
+            for (int i = 0; i < windows.length; i++) {
+                stats[i] = windows[i].stats();
+            }
+            return new MarketSnapshot(itemName, lastPrice, lastQuantity, lastTradeMillis, totalVolume, stats);
+        }
+    }
+}
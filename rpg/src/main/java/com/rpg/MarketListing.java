@@ -0,0 +1,29 @@
+package com.rpg;
+
+public class MarketListing {
+    private final String areaName;
+    private final String itemName;
+    private final MarketSnapshot snapshot;
+
+    public MarketListing(String areaName, String itemName, MarketSnapshot snapshot) {
+        this.areaName = areaName;
+        this.itemName = itemName;
+        this.snapshot = snapshot;
+    }
+
+    public String getAreaName() {
+        return areaName;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public MarketSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getLastPrice() {
+        return snapshot == null ? 0 : snapshot.getLastPrice();
+    }
+}
@@ -0,0 +1,84 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MarketRouter implements AutoCloseable {
+    private static final Comparator<MarketListing> LISTING_ORDER = Comparator
+            .comparing(MarketListing::getItemName)
+            .thenComparing(MarketListing::getAreaName);
+
+    private final Map<String, MarketShard> shards;
+
+    public MarketRouter(List<Area> areas) {
+        Map<String, MarketShard> byArea = new LinkedHashMap<>();
+        for (Area area : areas) {
+            if (area.getAuctionHouse() != null) {
+                byArea.put(area.getName(), new MarketShard(area.getName(), area.getAuctionHouse()));
+            }
+        }
+        this.shards = Map.copyOf(byArea);
+    }
+
+    public List<String> getAreaNames() {
+        List<String> names = new ArrayList<>(shards.keySet());
+        names.sort(null);
+        return names;
+    }
+
+    public long placeLimit(String areaName, long ownerId, String itemName, OrderSide side, long price, int quantity) {
+        MarketShard shard = shard(areaName);
+        shard.index(itemName);
+        return shard.getEngine().placeLimit(ownerId, itemName, side, price, quantity);
+    }
+
+    public void cancel(String areaName, long orderId, long ownerId, String itemName, OrderSide side, long price) {
+        shard(areaName).getEngine().cancel(orderId, ownerId, itemName, side, price);
+    }
+
+    public void addTradeListener(TradeListener listener) {
+        for (MarketShard shard : shards.values()) {
+            shard.getEngine().addTradeListener(listener);
+        }
+    }
+
+    public List<MarketListing> search(String query) {
+        List<String> tokens = ItemNameIndex.tokenize(query);
+        List<MarketListing> listings = new ArrayList<>();
+        for (MarketShard shard : shards.values()) {
+            for (String itemName : shard.getItemIndex().search(tokens)) {
+                listings.add(new MarketListing(shard.getAreaName(), itemName, shard.snapshot(itemName)));
+            }
+        }
+        listings.sort(LISTING_ORDER);
+        return listings;
+    }
+
+    public MarketSnapshot getSnapshot(String areaName, String itemName) {
+        return shard(areaName).snapshot(itemName);
+    }
+
+    public void awaitIdle() {
+        for (MarketShard shard : shards.values()) {
+            shard.getEngine().awaitIdle();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (MarketShard shard : shards.values()) {
+            shard.getAuctionHouse().closeMarket();
+        }
+    }
+
+    private MarketShard shard(String areaName) {
+        MarketShard shard = shards.get(areaName);
+        if (shard == null) {
+            throw new IllegalArgumentException("No auction house in area " + areaName);
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,44 @@
+package com.rpg;
+
+class MarketShard {
+    private final String areaName;
+    private final AuctionHouse auctionHouse;
+    private final ItemNameIndex itemIndex = new ItemNameIndex();
+    private final MatchingEngine engine;
+    private final MarketDataFeed marketData;
+
+    MarketShard(String areaName, AuctionHouse auctionHouse) {
+        this.areaName = areaName;
+        this.auctionHouse = auctionHouse;
+        this.engine = auctionHouse.getMatchingEngine();
+        this.marketData = auctionHouse.getMarketData();
+        // Orders placed on the engine directly still become searchable once they trade.
+        engine.addTradeListener(trade -> index(trade.getItemName()));
+    }
+
+    String getAreaName() {
+        return areaName;
+    }
+
+    AuctionHouse getAuctionHouse() {
+        return auctionHouse;
+    }
+
+    MatchingEngine getEngine() {
+        return engine;
+    }
+
+    ItemNameIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    MarketSnapshot snapshot(String itemName) {
+        return marketData.getSnapshot(itemName);
+    }
+
+    void index(String itemName) {
+        if (!itemIndex.contains(itemName)) {
+            itemIndex.add(itemName);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.rpg;
+
+public class MarketSnapshot {
+    private final String itemName;
+    private final long lastPrice;
+    private final int lastQuantity;
+    private final long lastTradeMillis;
+    private final long totalVolume;
+    private final WindowStats[] windows;
+
+    MarketSnapshot(
+            String itemName,
+            long lastPrice,
+            int lastQuantity,
+            long lastTradeMillis,
+            long totalVolume,
+            WindowStats[] windows
+    ) {
+        this.itemName = itemName;
+        this.lastPrice = lastPrice;
+        this.lastQuantity = lastQuantity;
+        this.lastTradeMillis = lastTradeMillis;
+        this.totalVolume = totalVolume;
+        this.windows = windows;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public long getLastPrice() {
+        return lastPrice;
+    }
+
+    public int getLastQuantity() {
+        return lastQuantity;
+    }
+
+    public long getLastTradeMillis() {
+        return lastTradeMillis;
+    }
+
+    public long getTotalVolume() {
+        return totalVolume;
+    }
+
+    public WindowStats getWindow(MarketWindow window) {
+        return windows[window.ordinal()];
+    }
+
+    public double getVwap(MarketWindow window) {
+        return getWindow(window).getVwap();
+    }
+}
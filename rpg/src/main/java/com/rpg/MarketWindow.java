@@ -0,0 +1,17 @@
+package com.rpg;
+
+public enum MarketWindow {
+    ONE_MINUTE(60_000L),
+    FIVE_MINUTES(300_000L),
+    ONE_HOUR(3_600_000L);
+
+    private final long millis;
+
+    MarketWindow(long millis) {
+        this.millis = millis;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+}
@@ -0,0 +1,234 @@
+package com.rpg;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class MatchingEngine implements AutoCloseable {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1 << 16;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int MAX_COMMIT_BATCH = 4096;
+    private static final long DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    private final String name;
+    private final MpscRingBuffer<Order> inbound;
+    private final Map<String, OrderBook> books = new HashMap<>();
+    private final List<TradeListener> listeners = new CopyOnWriteArrayList<>();
+    private final TradeListener fanOut = this::publish;
+    private final AtomicLong orderIds = new AtomicLong();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicInteger enqueuing = new AtomicInteger();
+    private final TradeJournal journal;
+    private final long snapshotInterval;
+    private final Thread matcher;
+    private long sinceSnapshot;
+    private volatile long processed;
+    private volatile long durable;
+    private volatile long tradeCount;
+    private volatile long rejectedCancelCount;
+    private volatile boolean closed;
+    private volatile RuntimeException failure;
+
+    public MatchingEngine(String name) {
+        this(name, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public MatchingEngine(String name, int queueCapacity) {
+        this(name, queueCapacity, null, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public MatchingEngine(String name, TradeJournal journal) {
+        this(name, DEFAULT_QUEUE_CAPACITY, journal, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public MatchingEngine(String name, int queueCapacity, TradeJournal journal, long snapshotInterval) {
+        this.name = name;
+        this.inbound = new MpscRingBuffer<>(queueCapacity);
+        this.journal = journal;
+        this.snapshotInterval = snapshotInterval;
+        if (journal != null) {
+            orderIds.set(journal.recover(books));
+        }
+        this.matcher = new Thread(this::matchLoop, "matching-" + name);
+        matcher.setDaemon(true);
+        matcher.start();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void addTradeListener(TradeListener listener) {
+        listeners.add(listener);
+    }
+
+    public long placeLimit(long ownerId, String itemName, OrderSide side, long price, int quantity) {
+        long orderId = orderIds.incrementAndGet();
+        enqueue(Order.limit(orderId, ownerId, itemName, side, price, quantity));
+        return orderId;
+    }
+
+    public void cancel(long orderId, long ownerId, String itemName, OrderSide side, long price) {
+        enqueue(Order.cancel(orderId, ownerId, itemName, side, price));
+    }
+
+    public long getProcessedCount() {
+        return processed;
+    }
+
+    public long getTradeCount() {
+        return tradeCount;
+    }
+
+    public long getRejectedCancelCount() {
+        return rejectedCancelCount;
+    }
+
+    public long getDurableCount() {
+        return journal == null ? processed : durable;
+    }
+
+    public void awaitIdle() {
+        long target = submitted.get();
+        while (processed < target && matcher.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        if (processed < target) {
+            throw stopped();
+        }
+    }
+
+    public void awaitDurable() {
+        long target = submitted.get();
+        while (getDurableCount() < target && matcher.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        if (getDurableCount() < target) {
+            throw stopped();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(matcher);
+        try {
+            matcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void enqueue(Order order) {
+        // Registered before the closed check, so the matcher cannot exit while this order is still on its way in.
+        enqueuing.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Matching engine " + name + " is closed");
+            }
+            // A dead matcher never drains the ring, so fail instead of parking forever.
+            if (!matcher.isAlive()) {
+                throw stopped();
+            }
+            while (!inbound.offer(order)) {
+                if (!matcher.isAlive()) {
+                    throw stopped();
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            submitted.incrementAndGet();
+        } finally {
+            enqueuing.decrementAndGet();
+        }
+    }
+
+    private IllegalStateException stopped() {
+        return new IllegalStateException("Matching engine " + name + " has stopped", failure);
+    }
+
+    private void matchLoop() {
+        try {
+            runMatching();
+        } catch (RuntimeException e) {
+            // Journal failures are fatal: the books can no longer be trusted to match what is durable.
+            failure = e;
+        }
+    }
+
+    private void runMatching() {
+        while (true) {
+            Order order = inbound.poll();
+            if (order == null) {
+                if (journal != null && journal.hasPending()) {
+                    // Group commit: one sync covers everything matched since the queue last ran dry.
+                    commitJournal();
+                    continue;
+                }
+                if (closed && enqueuing.get() == 0 && inbound.isEmpty()) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            if (journal != null) {
+                journal.appendOrder(order);
+            }
+            int removed = books.computeIfAbsent(order.getItemName(), OrderBook::new).submit(order, fanOut);
+            if (order.getType() == OrderType.CANCEL && removed == 0) {
+                // Unknown, already filled, or resting under another owner: the book is left untouched.
+                rejectedCancelCount++;
+                for (TradeListener listener : listeners) {
+                    try {
+                        listener.onCancelRejected(order);
+                    } catch (RuntimeException e) {
+                        listenerFailed(e);
+                    }
+                }
+            }
+            processed++;
+            if (journal != null && journal.getPendingRecords() >= MAX_COMMIT_BATCH) {
+                commitJournal();
+            }
+        }
+    }
+
+    private void commitJournal() {
+        journal.commit();
+        sinceSnapshot += processed - durable;
+        durable = processed;
+        if (sinceSnapshot >= snapshotInterval) {
+            journal.writeSnapshot(books, orderIds.get());
+            sinceSnapshot = 0;
+        }
+    }
+
+    private void publish(Trade trade) {
+        if (journal != null) {
+            journal.appendTrade(trade);
+        }
+        tradeCount++;
+        for (TradeListener listener : listeners) {
+            try {
+                listener.onTrade(trade);
+            } catch (RuntimeException e) {
+                listenerFailed(e);
+            }
+        }
+    }
+
+    private void listenerFailed(RuntimeException e) {
+        // One broken listener must not stop matching or starve the others.
+        System.err.println("Trade listener failed on " + name + ": " + e);
+    }
+}
@@ -0,0 +1,23 @@
+package com.rpg;
+
+import java.util.function.Supplier;
+
+public interface NarrationSink extends AutoCloseable {
+    boolean isEnabled();
+
+    void emit(String line);
+
+    default void emit(Supplier<String> line) {
+        if (isEnabled()) {
+            emit(line.get());
+        }
+    }
+
+    default void flush() {
+    }
+
+    @Override
+    default void close() {
+        flush();
+    }
+}
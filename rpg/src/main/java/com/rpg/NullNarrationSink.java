@@ -0,0 +1,17 @@
+package com.rpg;
+
+public final class NullNarrationSink implements NarrationSink {
+    public static final NullNarrationSink INSTANCE = new NullNarrationSink();
+
+    private NullNarrationSink() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void emit(String line) {
+    }
+}
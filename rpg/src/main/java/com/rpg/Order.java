@@ -0,0 +1,78 @@
+package com.rpg;
+
+public class Order {
+    private final long orderId;
+    private final long ownerId;
+    private final String itemName;
+    private final OrderSide side;
+    private final OrderType type;
+    private final long price;
+    private final int quantity;
+    private int remaining;
+
+    public Order(
+            long orderId,
+            long ownerId,
+            String itemName,
+            OrderSide side,
+            OrderType type,
+            long price,
+            int quantity
+    ) {
+        if (type == OrderType.LIMIT && (price <= 0 || quantity <= 0)) {
+            throw new IllegalArgumentException("Limit orders need a positive price and quantity");
+        }
+        this.orderId = orderId;
+        this.ownerId = ownerId;
+        this.itemName = itemName;
+        this.side = side;
+        this.type = type;
+        this.price = price;
+        this.quantity = quantity;
+        this.remaining = quantity;
+    }
+
+    public static Order limit(long orderId, long ownerId, String itemName, OrderSide side, long price, int quantity) {
+        return new Order(orderId, ownerId, itemName, side, OrderType.LIMIT, price, quantity);
+    }
+
+    public static Order cancel(long orderId, long ownerId, String itemName, OrderSide side, long price) {
+        return new Order(orderId, ownerId, itemName, side, OrderType.CANCEL, price, 0);
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public OrderSide getSide() {
+        return side;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    void fill(int amount) {
+        remaining -= amount;
+    }
+}
@@ -0,0 +1,131 @@
+package com.rpg;
+
+import java.util.function.Consumer;
+
+public class OrderBook {
+    private final String itemName;
+    private final PriceLadder bids = new PriceLadder(true);
+    private final PriceLadder asks = new PriceLadder(false);
+    private long tradeSequence;
+
+    public OrderBook(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public int submit(Order order, TradeListener listener) {
+        if (order.getType() == OrderType.CANCEL) {
+            return cancel(order.getSide(), order.getPrice(), order.getOrderId(), order.getOwnerId()) ? 1 : 0;
+        }
+        boolean buying = order.getSide() == OrderSide.BUY;
+        PriceLadder opposite = buying ? asks : bids;
+        int filled = 0;
+        while (order.getRemaining() > 0 && !opposite.isEmpty()) {
+            long bestPrice = opposite.bestPrice();
+            if (buying ? bestPrice > order.getPrice() : bestPrice < order.getPrice()) {
+                break;
+            }
+            PriceLevel level = opposite.bestLevel();
+            while (order.getRemaining() > 0 && !level.isEmpty()) {
+                Order resting = level.peek();
+                int quantity = Math.min(order.getRemaining(), resting.getRemaining());
+                order.fill(quantity);
+                level.fillHead(quantity);
+                filled += quantity;
+                if (listener != null) {
+                    listener.onTrade(buying
+                            ? trade(bestPrice, quantity, order, resting)
+                            : trade(bestPrice, quantity, resting, order));
+                }
+            }
+            if (level.isEmpty()) {
+                opposite.removeBest();
+            }
+        }
+        if (order.getRemaining() > 0) {
+            (buying ? bids : asks).levelFor(order.getPrice()).add(order);
+        }
+        return filled;
+    }
+
+    public boolean cancel(OrderSide side, long price, long orderId, long ownerId) {
+        PriceLadder ladder = side == OrderSide.BUY ? bids : asks;
+        PriceLevel level = ladder.find(price);
+        if (level == null || level.remove(orderId, ownerId) == null) {
+            return false;
+        }
+        ladder.removeIfEmpty(level);
+        return true;
+    }
+
+    public boolean hasBids() {
+        return !bids.isEmpty();
+    }
+
+    public boolean hasAsks() {
+        return !asks.isEmpty();
+    }
+
+    public long getBestBid() {
+        return bids.isEmpty() ? 0 : bids.bestPrice();
+    }
+
+    public long getBestAsk() {
+        return asks.isEmpty() ? 0 : asks.bestPrice();
+    }
+
+    public int getBidLevels() {
+        return bids.size();
+    }
+
+    public int getAskLevels() {
+        return asks.size();
+    }
+
+    public long getQuantityAt(OrderSide side, long price) {
+        PriceLevel level = (side == OrderSide.BUY ? bids : asks).find(price);
+        return level == null ? 0 : level.getTotalQuantity();
+    }
+
+    public void forEachRestingOrder(Consumer<Order> action) {
+        forEach(bids, action);
+        forEach(asks, action);
+    }
+
+    long getTradeSequence() {
+        return tradeSequence;
+    }
+
+    void restore(Order order) {
+        (order.getSide() == OrderSide.BUY ? bids : asks).levelFor(order.getPrice()).add(order);
+    }
+
+    void restoreTradeSequence(long tradeSequence) {
+        this.tradeSequence = Math.max(this.tradeSequence, tradeSequence);
+    }
+
+    private static void forEach(PriceLadder ladder, Consumer<Order> action) {
+        for (int i = 0; i < ladder.size(); i++) {
+            for (Order order : ladder.levelAt(i).orders()) {
+                action.accept(order);
+            }
+        }
+    }
+
+    private Trade trade(long price, int quantity, Order buy, Order sell) {
+        return new Trade(
+                ++tradeSequence,
+                itemName,
+                price,
+                quantity,
+                buy.getOrderId(),
+                sell.getOrderId(),
+                buy.getOwnerId(),
+                sell.getOwnerId(),
+                System.currentTimeMillis()
+        );
+    }
+}
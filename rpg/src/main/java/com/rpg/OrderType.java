@@ -0,0 +1,6 @@
+package com.rpg;
+
+public enum OrderType {
+    LIMIT,
+    CANCEL
+}
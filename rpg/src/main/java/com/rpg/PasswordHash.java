@@ -0,0 +1,79 @@
+package com.rpg;
+
+public class PasswordHash {
+    public enum Scheme {
+        SHA256,
+        PBKDF2_SHA256
+    }
+
+    static final String PBKDF2_PREFIX = "pbkdf2-sha256";
+
+    private final Scheme scheme;
+    private final int iterations;
+    private final byte[] salt;
+    private final byte[] digest;
+
+    PasswordHash(Scheme scheme, int iterations, byte[] salt, byte[] digest) {
+        this.scheme = scheme;
+        this.iterations = iterations;
+        this.salt = salt;
+        this.digest = digest;
+    }
+
+    public static PasswordHash parse(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        if (!encoded.startsWith(PBKDF2_PREFIX + "$")) {
+            byte[] digest = PasswordHasher.decodeHex(encoded);
+            return digest == null ? null : new PasswordHash(Scheme.SHA256, 1, new byte[0], digest);
+        }
+        String[] parts = encoded.split("\\$");
+        if (parts.length != 4) {
+            return null;
+        }
+        int iterations;
+        try {
+            iterations = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        byte[] salt = PasswordHasher.decodeHex(parts[2]);
+        byte[] digest = PasswordHasher.decodeHex(parts[3]);
+        if (iterations <= 0 || salt == null || digest == null || digest.length == 0) {
+            return null;
+        }
+        return new PasswordHash(Scheme.PBKDF2_SHA256, iterations, salt, digest);
+    }
+
+    public Scheme getScheme() {
+        return scheme;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public byte[] getSalt() {
+        return salt.clone();
+    }
+
+    public byte[] getDigest() {
+        return digest.clone();
+    }
+
+    public String encode() {
+        if (scheme == Scheme.SHA256) {
+            return PasswordHasher.encodeHex(digest);
+        }
+        return PBKDF2_PREFIX + "$" + iterations + "$" + PasswordHasher.encodeHex(salt) + "$" + PasswordHasher.encodeHex(digest);
+    }
+
+    byte[] salt() {
+        return salt;
+    }
+
+    byte[] digest() {
+        return digest;
+    }
+}
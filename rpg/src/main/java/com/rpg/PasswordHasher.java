@@ -3,19 +3,135 @@ package com.rpg;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
 
 public class PasswordHasher {
+    public static final int DEFAULT_ITERATIONS = 120_000;
+
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(PasswordHasher::newDigest);
+    private static final ThreadLocal<SecretKeyFactory> KEY_FACTORIES =
+            ThreadLocal.withInitial(PasswordHasher::newKeyFactory);
+    private static final SecureRandom SALTS = new SecureRandom();
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final byte[] PADDING_SALT = new byte[SALT_BYTES];
+
+    private final int iterations;
+
+    public PasswordHasher() {
+        this(DEFAULT_ITERATIONS);
+    }
+
+    public PasswordHasher(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
     public String hash(String rawPassword) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(rawPassword.getBytes(StandardCharsets.UTF_8));
-            StringBuilder builder = new StringBuilder();
-            for (byte b : hashed) {
-                builder.append(String.format("%02x", b));
+        return encodeHex(digest(rawPassword));
+    }
+
+    public byte[] digest(String rawPassword) {
+        return DIGESTS.get().digest(rawPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String encode(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        SALTS.nextBytes(salt);
+        byte[] derived = derive(rawPassword, salt, iterations);
+        return new PasswordHash(PasswordHash.Scheme.PBKDF2_SHA256, iterations, salt, derived).encode();
+    }
+
+    public boolean matches(String rawPassword, String storedHash) {
+        return matches(rawPassword, PasswordHash.parse(storedHash));
+    }
+
+    public boolean matches(String rawPassword, UserRecord record) {
+        return matches(rawPassword, record.getStoredHash());
+    }
+
+    public boolean matches(String rawPassword, PasswordHash stored) {
+        if (stored == null) {
+            return false;
+        }
+        byte[] computed = stored.getScheme() == PasswordHash.Scheme.SHA256
+                ? digest(rawPassword)
+                : derive(rawPassword, stored.salt(), stored.getIterations());
+        return MessageDigest.isEqual(computed, stored.digest());
+    }
+
+    public void padToCurrentCost(String rawPassword, PasswordHash stored) {
+        int spent = stored == null || stored.getScheme() != PasswordHash.Scheme.PBKDF2_SHA256 ? 0 : stored.getIterations();
+        if (spent < iterations) {
+            derive(rawPassword, PADDING_SALT, iterations - spent);
+        }
+    }
+
+    public boolean needsUpgrade(PasswordHash stored) {
+        return stored == null
+                || stored.getScheme() != PasswordHash.Scheme.PBKDF2_SHA256
+                || stored.getIterations() < iterations;
+    }
+
+    public static String encodeHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    public static byte[] decodeHex(String hex) {
+        if (hex == null || hex.length() % 2 != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
             }
-            return builder.toString();
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return KEY_FACTORIES.get().generateSecret(spec).getEncoded();
+        } catch (InvalidKeySpecException e) {
+            throw new IllegalStateException("Failed to derive password hash", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 not available", e);
         }
     }
+
+    private static SecretKeyFactory newKeyFactory() {
+        try {
+            return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("PBKDF2WithHmacSHA256 not available", e);
+        }
+    }
 }
@@ -4,13 +4,20 @@ import java.util.EnumMap;
 import java.util.Map;
 
 public class Player extends Combatant {
+    private static final SkillType[] SKILL_TYPES = SkillType.values();
+
     private final Map<SkillType, Skill> skills;
+    private final int[] skillHeap = new int[SKILL_TYPES.length];
+    private final int[] heapPositions = new int[SKILL_TYPES.length];
+    private final Inventory inventory = new Inventory();
 
     public Player(String name) {
         super(name, 120, 80, 14, 9, 13);
         this.skills = new EnumMap<>(SkillType.class);
         for (SkillType type : SkillType.values()) {
-            skills.put(type, new Skill(type));
+            skills.put(type, new Skill(type, this));
+            skillHeap[type.ordinal()] = type.ordinal();
+            heapPositions[type.ordinal()] = type.ordinal();
         }
     }
 
@@ -18,6 +25,10 @@ public class Player extends Combatant {
         return skills.get(type);
     }
 
+    public Inventory getInventory() {
+        return inventory;
+    }
+
     public void trainSkill(SkillType type, int experience) {
         Skill skill = skills.get(type);
         if (skill != null) {
@@ -25,6 +36,14 @@ public class Player extends Combatant {
         }
     }
 
+    void onSkillLevelUp(SkillType type) {
+        siftDown(heapPositions[type.ordinal()]);
+    }
+
+    public SkillType getLowestSkillType() {
+        return SKILL_TYPES[skillHeap[0]];
+    }
+
     public String skillSummary() {
         StringBuilder builder = new StringBuilder();
         builder.append("Skills for ").append(getName()).append(":\n");
@@ -34,6 +53,40 @@ public class Player extends Combatant {
         return builder.toString();
     }
 
+    private void siftDown(int position) {
+        int size = skillHeap.length;
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(skillHeap[left], skillHeap[smallest])) {
+                smallest = left;
+            }
+            if (right < size && ranksBefore(skillHeap[right], skillHeap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private boolean ranksBefore(int ordinal, int otherOrdinal) {
+        int level = skills.get(SKILL_TYPES[ordinal]).getLevel();
+        int otherLevel = skills.get(SKILL_TYPES[otherOrdinal]).getLevel();
+        return level < otherLevel || (level == otherLevel && ordinal < otherOrdinal);
+    }
+
+    private void swap(int first, int second) {
+        int ordinal = skillHeap[first];
+        skillHeap[first] = skillHeap[second];
+        skillHeap[second] = ordinal;
+        heapPositions[skillHeap[first]] = first;
+        heapPositions[skillHeap[second]] = second;
+    }
+
     @Override
     public int adjustDebuffDuration(int baseDurationSeconds, boolean usingShield) {
         if (baseDurationSeconds <= 0) {
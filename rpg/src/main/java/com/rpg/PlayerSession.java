@@ -0,0 +1,34 @@
+package com.rpg;
+
+public class PlayerSession {
+    private final Player player;
+    private final AiAgent agent;
+    private long actionsPerformed;
+
+    public PlayerSession(Player player, AiAgent agent) {
+        this.player = player;
+        this.agent = agent;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public AiAgent getAgent() {
+        return agent;
+    }
+
+    public long getActionsPerformed() {
+        return actionsPerformed;
+    }
+
+    public boolean advance(GameWorld world) {
+        SkillAction action = agent.chooseAction(player, world);
+        if (action == null) {
+            return false;
+        }
+        player.trainSkill(action.getSkillType(), action.getExperienceReward());
+        actionsPerformed++;
+        return true;
+    }
+}
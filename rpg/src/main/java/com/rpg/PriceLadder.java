@@ -0,0 +1,88 @@
+package com.rpg;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+class PriceLadder {
+    private final boolean highestFirst;
+    private final ArrayDeque<PriceLevel> spareLevels = new ArrayDeque<>();
+    // Keys are sorted ascending with the best price last, so taking the best level never shifts the arrays.
+    private long[] keys = new long[16];
+    private PriceLevel[] levels = new PriceLevel[16];
+    private int size;
+
+    PriceLadder(boolean highestFirst) {
+        this.highestFirst = highestFirst;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bestPrice() {
+        return levels[size - 1].getPrice();
+    }
+
+    PriceLevel bestLevel() {
+        return levels[size - 1];
+    }
+
+    PriceLevel levelAt(int index) {
+        return levels[index];
+    }
+
+    void removeBest() {
+        size--;
+        spareLevels.push(levels[size]);
+        levels[size] = null;
+    }
+
+    PriceLevel find(long price) {
+        int index = Arrays.binarySearch(keys, 0, size, key(price));
+        return index >= 0 ? levels[index] : null;
+    }
+
+    PriceLevel levelFor(long price) {
+        long key = key(price);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            return levels[index];
+        }
+        int insertAt = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            levels = Arrays.copyOf(levels, size * 2);
+        }
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(levels, insertAt, levels, insertAt + 1, size - insertAt);
+        PriceLevel level = spareLevels.isEmpty() ? new PriceLevel() : spareLevels.pop();
+        level.reset(price);
+        keys[insertAt] = key;
+        levels[insertAt] = level;
+        size++;
+        return level;
+    }
+
+    void removeIfEmpty(PriceLevel level) {
+        if (!level.isEmpty()) {
+            return;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, key(level.getPrice()));
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(levels, index + 1, levels, index, size - index - 1);
+        size--;
+        levels[size] = null;
+        spareLevels.push(level);
+    }
+
+    private long key(long price) {
+        return highestFirst ? price : -price;
+    }
+}
@@ -0,0 +1,66 @@
+package com.rpg;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+class PriceLevel {
+    private final ArrayDeque<Order> orders = new ArrayDeque<>();
+    private long price;
+    private long totalQuantity;
+
+    void reset(long price) {
+        this.price = price;
+        this.totalQuantity = 0;
+        orders.clear();
+    }
+
+    long getPrice() {
+        return price;
+    }
+
+    long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    boolean isEmpty() {
+        return orders.isEmpty();
+    }
+
+    Order peek() {
+        return orders.peekFirst();
+    }
+
+    void add(Order order) {
+        orders.addLast(order);
+        totalQuantity += order.getRemaining();
+    }
+
+    void fillHead(int amount) {
+        Order head = orders.peekFirst();
+        head.fill(amount);
+        totalQuantity -= amount;
+        if (head.getRemaining() == 0) {
+            orders.pollFirst();
+        }
+    }
+
+    Order remove(long orderId, long ownerId) {
+        Iterator<Order> iterator = orders.iterator();
+        while (iterator.hasNext()) {
+            Order order = iterator.next();
+            if (order.getOrderId() == orderId) {
+                if (order.getOwnerId() != ownerId) {
+                    return null;
+                }
+                iterator.remove();
+                totalQuantity -= order.getRemaining();
+                return order;
+            }
+        }
+        return null;
+    }
+
+    Iterable<Order> orders() {
+        return orders;
+    }
+}
@@ -0,0 +1,198 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class RegionManager implements AutoCloseable {
+    private static final long DEFAULT_MEMORY_BUDGET_BYTES = 8L * 1024 * 1024;
+
+    private final AreaLoader loader;
+    private final long memoryBudgetBytes;
+    private final Map<String, Region> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Region>> inFlight = new HashMap<>();
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "region-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long residentBytes;
+    private long loadCount;
+    private long evictionCount;
+
+    public RegionManager(AreaLoader loader) {
+        this(loader, DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    public RegionManager(AreaLoader loader, long memoryBudgetBytes) {
+        this.loader = loader;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public Area enter(String areaId) {
+        Region region = join(load(areaId));
+        synchronized (this) {
+            reinstate(region);
+            region.occupants++;
+        }
+        for (String neighborId : region.definition.getNeighborIds()) {
+            prefetch(neighborId);
+        }
+        return region.definition.getArea();
+    }
+
+    public void leave(String areaId) {
+        synchronized (this) {
+            Region region = resident.get(areaId);
+            if (region != null && region.occupants > 0) {
+                region.occupants--;
+            }
+            evictOverBudget();
+        }
+    }
+
+    public void prefetch(String areaId) {
+        synchronized (this) {
+            if (resident.containsKey(areaId) || inFlight.containsKey(areaId)) {
+                return;
+            }
+        }
+        prefetcher.execute(() -> {
+            try {
+                load(areaId).join();
+            } catch (RuntimeException e) {
+                // A broken neighbour only surfaces when a player actually enters it.
+            }
+        });
+    }
+
+    public synchronized boolean isLoaded(String areaId) {
+        return resident.containsKey(areaId);
+    }
+
+    public synchronized List<Area> getLoadedAreas() {
+        List<Area> areas = new ArrayList<>(resident.size());
+        for (Region region : resident.values()) {
+            areas.add(region.definition.getArea());
+        }
+        return areas;
+    }
+
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public synchronized long getLoadCount() {
+        return loadCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public void close() {
+        prefetcher.shutdownNow();
+        synchronized (this) {
+            for (Region region : resident.values()) {
+                unload(region);
+            }
+            resident.clear();
+            residentBytes = 0;
+        }
+    }
+
+    private CompletableFuture<Region> load(String areaId) {
+        CompletableFuture<Region> future;
+        synchronized (this) {
+            Region loaded = resident.get(areaId);
+            if (loaded != null) {
+                return CompletableFuture.completedFuture(loaded);
+            }
+            future = inFlight.get(areaId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            inFlight.put(areaId, future);
+        }
+        // Parse outside the lock so entering one area never waits on another area's file.
+        try {
+            Region region = new Region(loader.load(areaId));
+            synchronized (this) {
+                inFlight.remove(areaId);
+                loadCount++;
+                reinstate(region);
+                evictOverBudget();
+            }
+            future.complete(region);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                inFlight.remove(areaId);
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void reinstate(Region region) {
+        String areaId = region.definition.getAreaId();
+        if (resident.get(areaId) != region) {
+            resident.put(areaId, region);
+            residentBytes += region.definition.getEstimatedBytes();
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<Region> eldestFirst = resident.values().iterator();
+        while (residentBytes > memoryBudgetBytes && eldestFirst.hasNext()) {
+            Region region = eldestFirst.next();
+            if (region.isActive()) {
+                continue;
+            }
+            eldestFirst.remove();
+            residentBytes -= region.definition.getEstimatedBytes();
+            evictionCount++;
+            unload(region);
+        }
+    }
+
+    private static void unload(Region region) {
+        AuctionHouse auctionHouse = region.definition.getArea().getAuctionHouse();
+        if (auctionHouse != null) {
+            auctionHouse.closeMarket();
+        }
+    }
+
+    private static Region join(CompletableFuture<Region> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Region {
+        private final AreaDefinition definition;
+        private int occupants;
+
+        private Region(AreaDefinition definition) {
+            this.definition = definition;
+        }
+
+        private boolean isActive() {
+            AuctionHouse auctionHouse = definition.getArea().getAuctionHouse();
+            return occupants > 0 || (auctionHouse != null && auctionHouse.isMarketOpen());
+        }
+    }
+}
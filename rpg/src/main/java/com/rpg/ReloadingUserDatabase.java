@@ -0,0 +1,221 @@
+package com.rpg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ReloadingUserDatabase implements UserDatabase, AutoCloseable {
+    private static final int TAIL_FINGERPRINT_BYTES = 64;
+
+    private final Path filePath;
+    private final WatchService watchService;
+    private final Thread watcher;
+    private volatile Map<String, UserRecord> users = Map.of();
+    private volatile long reloadCount;
+    private List<String> lines = new ArrayList<>();
+    private List<UserRecord> records = new ArrayList<>();
+    private long consumedBytes;
+    private byte[] tailFingerprint = new byte[0];
+    private FileTime lastModified;
+
+    public ReloadingUserDatabase(Path filePath) {
+        this.filePath = filePath.toAbsolutePath();
+        reload();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            this.filePath.getParent().register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to watch users database at " + filePath, e);
+        }
+        watcher = new Thread(this::watchLoop, "user-db-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @Override
+    public Optional<UserRecord> findUser(String username) {
+        return Optional.ofNullable(users.get(username.toLowerCase()));
+    }
+
+    @Override
+    public boolean updateUser(UserRecord record) {
+        String line = record.getUsername() + "," + record.getPasswordHash() + "," + record.getRole() + "\n";
+        synchronized (this) {
+            try {
+                Files.writeString(filePath, line, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to update users database at " + filePath, e);
+            }
+            reload();
+        }
+        return true;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public long getReloadCount() {
+        return reloadCount;
+    }
+
+    public synchronized void reload() {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            FileTime modified = Files.getLastModifiedTime(filePath);
+            if (size == consumedBytes && modified.equals(lastModified) && tailMatches(channel)) {
+                return;
+            }
+            if (size > consumedBytes && consumedBytes > 0 && tailMatches(channel) && endsWithNewline()) {
+                applyAppend(channel, size);
+            } else {
+                applyRewrite(channel, size);
+            }
+            lastModified = modified;
+            reloadCount++;
+        } catch (NoSuchFileException e) {
+            if (consumedBytes == 0) {
+                throw new IllegalStateException("Failed to load users database at " + filePath, e);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load users database at " + filePath, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to stop watching " + filePath, e);
+        }
+    }
+
+    private void applyAppend(FileChannel channel, long size) throws IOException {
+        String appended = read(channel, consumedBytes, size);
+        int lastNewline = appended.lastIndexOf('\n');
+        if (lastNewline < 0) {
+            return;
+        }
+        Map<String, UserRecord> next = new HashMap<>(users);
+        for (String line : appended.substring(0, lastNewline).split("\n", -1)) {
+            UserRecord record = FileUserDatabase.parseLine(line);
+            lines.add(line);
+            records.add(record);
+            if (record != null) {
+                next.put(record.getUsername().toLowerCase(), record);
+            }
+        }
+        advance(channel, consumedBytes + appended.substring(0, lastNewline + 1).getBytes(StandardCharsets.UTF_8).length);
+        users = Map.copyOf(next);
+    }
+
+    private void applyRewrite(FileChannel channel, long size) throws IOException {
+        String content = read(channel, 0, size);
+        String[] current = content.split("\n", -1);
+        int count = content.endsWith("\n") ? current.length - 1 : current.length;
+        List<String> nextLines = new ArrayList<>(count);
+        List<UserRecord> nextRecords = new ArrayList<>(count);
+        Map<String, UserRecord> next = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String line = current[i];
+            UserRecord record = i < lines.size() && lines.get(i).equals(line)
+                    ? records.get(i)
+                    : FileUserDatabase.parseLine(line);
+            nextLines.add(line);
+            nextRecords.add(record);
+            if (record != null) {
+                next.put(record.getUsername().toLowerCase(), record);
+            }
+        }
+        lines = nextLines;
+        records = nextRecords;
+        advance(channel, size);
+        users = Map.copyOf(next);
+    }
+
+    private void advance(FileChannel channel, long offset) throws IOException {
+        consumedBytes = offset;
+        int length = (int) Math.min(TAIL_FINGERPRINT_BYTES, offset);
+        tailFingerprint = readBytes(channel, offset - length, length);
+    }
+
+    private boolean tailMatches(FileChannel channel) throws IOException {
+        if (channel.size() < consumedBytes) {
+            return false;
+        }
+        byte[] tail = readBytes(channel, consumedBytes - tailFingerprint.length, tailFingerprint.length);
+        return Arrays.equals(tail, tailFingerprint);
+    }
+
+    private boolean endsWithNewline() {
+        return tailFingerprint.length > 0 && tailFingerprint[tailFingerprint.length - 1] == '\n';
+    }
+
+    private static String read(FileChannel channel, long from, long to) throws IOException {
+        if (to - from > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Users database change is too large to read at once");
+        }
+        return new String(readBytes(channel, from, (int) (to - from)), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(FileChannel channel, long from, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.array();
+    }
+
+    private void watchLoop() {
+        Path fileName = filePath.getFileName();
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                    changed = true;
+                }
+            }
+            if (changed) {
+                try {
+                    reload();
+                } catch (IllegalStateException e) {
+                    System.err.println("User database reload failed: " + e.getMessage());
+                }
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+}
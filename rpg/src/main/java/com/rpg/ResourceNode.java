@@ -4,11 +4,19 @@ public class ResourceNode {
     private final String name;
     private final SkillType skillType;
     private final String resourceItem;
+    private final double x;
+    private final double y;
 
     public ResourceNode(String name, SkillType skillType, String resourceItem) {
+        this(name, skillType, resourceItem, 0, 0);
+    }
+
+    public ResourceNode(String name, SkillType skillType, String resourceItem, double x, double y) {
         this.name = name;
         this.skillType = skillType;
         this.resourceItem = resourceItem;
+        this.x = x;
+        this.y = y;
     }
 
     public String getName() {
@@ -22,4 +30,12 @@ public class ResourceNode {
     public String getResourceItem() {
         return resourceItem;
     }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
 }
@@ -0,0 +1,104 @@
+package com.rpg;
+
+class RollingPriceWindow {
+    private static final int BUCKETS = 60;
+
+    private final long bucketMillis;
+    private final long[] volumes = new long[BUCKETS];
+    private final long[] notionals = new long[BUCKETS];
+    private final int[] tradeCounts = new int[BUCKETS];
+    private final long[] minPrices = new long[BUCKETS];
+    private final long[] maxPrices = new long[BUCKETS];
+    private long headEpoch = Long.MIN_VALUE;
+    private long volume;
+    private long notional;
+    private int tradeCount;
+    private long minPrice;
+    private long maxPrice;
+    private WindowStats stats = WindowStats.EMPTY;
+
+    RollingPriceWindow(MarketWindow window) {
+        this.bucketMillis = window.getMillis() / BUCKETS;
+    }
+
+    void record(long timestampMillis, long price, int quantity) {
+        long epoch = timestampMillis / bucketMillis;
+        advanceTo(epoch);
+        if (epoch <= headEpoch - BUCKETS) {
+            return;
+        }
+        int slot = slot(epoch);
+        if (tradeCounts[slot] == 0) {
+            minPrices[slot] = price;
+            maxPrices[slot] = price;
+        } else {
+            minPrices[slot] = Math.min(minPrices[slot], price);
+            maxPrices[slot] = Math.max(maxPrices[slot], price);
+        }
+        volumes[slot] += quantity;
+        notionals[slot] += price * quantity;
+        tradeCounts[slot]++;
+        volume += quantity;
+        notional += price * quantity;
+        minPrice = tradeCount == 0 ? price : Math.min(minPrice, price);
+        maxPrice = tradeCount == 0 ? price : Math.max(maxPrice, price);
+        tradeCount++;
+        stats = null;
+    }
+
+    boolean expire(long nowMillis) {
+        return advanceTo(nowMillis / bucketMillis);
+    }
+
+    WindowStats stats() {
+        if (stats == null) {
+            stats = tradeCount == 0
+                    ? WindowStats.EMPTY
+                    : new WindowStats(volume, notional, tradeCount, minPrice, maxPrice);
+        }
+        return stats;
+    }
+
+    private boolean advanceTo(long epoch) {
+        if (epoch <= headEpoch) {
+            return false;
+        }
+        long first = headEpoch == Long.MIN_VALUE ? epoch : Math.max(headEpoch + 1, epoch - BUCKETS + 1);
+        boolean evicted = false;
+        for (long e = first; e <= epoch; e++) {
+            int slot = slot(e);
+            if (tradeCounts[slot] > 0) {
+                volume -= volumes[slot];
+                notional -= notionals[slot];
+                tradeCount -= tradeCounts[slot];
+                evicted = true;
+            }
+            volumes[slot] = 0;
+            notionals[slot] = 0;
+            tradeCounts[slot] = 0;
+        }
+        headEpoch = epoch;
+        if (evicted) {
+            // Only an evicted bucket can take the window's extreme with it, so rescan the survivors.
+            recomputeExtremes();
+            stats = null;
+        }
+        return evicted;
+    }
+
+    private void recomputeExtremes() {
+        boolean any = false;
+        for (int slot = 0; slot < BUCKETS; slot++) {
+            if (tradeCounts[slot] == 0) {
+                continue;
+            }
+            minPrice = any ? Math.min(minPrice, minPrices[slot]) : minPrices[slot];
+            maxPrice = any ? Math.max(maxPrice, maxPrices[slot]) : maxPrices[slot];
+            any = true;
+        }
+    }
+
+    private static int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) BUCKETS);
+    }
+}
@@ -0,0 +1,105 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ShardedGameEngine implements AutoCloseable {
+    private final GameWorld world;
+    private final List<GameShard> shards = new ArrayList<>();
+    private final List<ExecutorService> workers = new ArrayList<>();
+    private final List<Future<Integer>> pending = new ArrayList<>();
+    private int sessionCount;
+    private long ticks;
+
+    public ShardedGameEngine(GameWorld world) {
+        this(world, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShardedGameEngine(GameWorld world, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.world = world;
+        for (int i = 0; i < shardCount; i++) {
+            String threadName = "game-shard-" + i;
+            shards.add(new GameShard(i));
+            workers.add(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+    }
+
+    public PlayerSession addSession(Player player, AiAgent agent) {
+        PlayerSession session = new PlayerSession(player, agent);
+        shards.get(sessionCount % shards.size()).addSession(session);
+        sessionCount++;
+        return session;
+    }
+
+    public List<GameShard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getActionsPerformed() {
+        long total = 0;
+        for (GameShard shard : shards) {
+            total += shard.getActionsPerformed();
+        }
+        return total;
+    }
+
+    public int tick() {
+        pending.clear();
+        for (int i = 0; i < shards.size(); i++) {
+            GameShard shard = shards.get(i);
+            pending.add(workers.get(i).submit(() -> shard.advance(world)));
+        }
+        int acted = 0;
+        try {
+            for (Future<Integer> future : pending) {
+                acted += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while advancing shards", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Shard failed during tick " + (ticks + 1), e.getCause());
+        }
+        ticks++;
+        return acted;
+    }
+
+    public void run(int turns) {
+        for (int turn = 1; turn <= turns; turn++) {
+            if (tick() == 0) {
+                break;
+            }
+        }
+    }
+
+    public void run(int turns, TickScheduler scheduler) {
+        scheduler.run(turns, tick -> tick() > 0);
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+}
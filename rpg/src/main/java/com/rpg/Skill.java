@@ -1,14 +1,24 @@
 package com.rpg;
 
 public class Skill {
+    private static final long MAX_TOTAL_EXPERIENCE = Long.MAX_VALUE / 4;
+    private static final int BASE_LEVEL_EXPERIENCE = 100;
+    private static final int LEVEL_EXPERIENCE_STEP = 25;
+
     private final SkillType type;
+    private final Player owner;
     private int level;
-    private int experience;
+    private long totalExperience;
 
     public Skill(SkillType type) {
+        this(type, null);
+    }
+
+    Skill(SkillType type, Player owner) {
         this.type = type;
+        this.owner = owner;
         this.level = 1;
-        this.experience = 0;
+        this.totalExperience = 0;
     }
 
     public SkillType getType() {
@@ -19,27 +29,68 @@ public class Skill {
         return level;
     }
 
-    public int getExperience() {
-        return experience;
+    public long getExperience() {
+        return totalExperience - experienceToReachLevel(level);
+    }
+
+    public long getTotalExperience() {
+        return totalExperience;
     }
 
-    public void addExperience(int amount) {
+    public void addExperience(long amount) {
         if (amount <= 0) {
             return;
         }
-        experience += amount;
-        while (experience >= experienceForNextLevel()) {
-            experience -= experienceForNextLevel();
-            level += 1;
+        totalExperience = saturatingAdd(totalExperience, amount);
+        updateLevel();
+    }
+
+    public void addExperience(int[] amounts) {
+        long total = totalExperience;
+        for (int amount : amounts) {
+            if (amount > 0) {
+                total = saturatingAdd(total, amount);
+            }
+        }
+        totalExperience = total;
+        updateLevel();
+    }
+
+    public static long experienceToReachLevel(int level) {
+        long gained = level - 1L;
+        return BASE_LEVEL_EXPERIENCE * gained + LEVEL_EXPERIENCE_STEP * gained * (gained - 1) / 2;
+    }
+
+    public static int levelForExperience(long totalExperience) {
+        if (totalExperience < BASE_LEVEL_EXPERIENCE) {
+            return 1;
+        }
+        // Invert 12.5n^2 + 87.5n = xp for the number of levels gained; floating-point rounding is at most one level.
+        long gained = (long) ((-175.0 + Math.sqrt(30625.0 + 200.0 * totalExperience)) / 50.0);
+        if (gained > 0 && experienceToReachLevel((int) gained + 1) > totalExperience) {
+            gained--;
+        } else if (experienceToReachLevel((int) gained + 2) <= totalExperience) {
+            gained++;
+        }
+        return (int) gained + 1;
+    }
+
+    private void updateLevel() {
+        if (totalExperience >= experienceToReachLevel(level + 1)) {
+            level = levelForExperience(totalExperience);
+            // Levels only rise, so the owner re-sinks this skill in its lowest-skill heap.
+            if (owner != null) {
+                owner.onSkillLevelUp(type);
+            }
         }
     }
 
-    private int experienceForNextLevel() {
-        return 100 + (level - 1) * 25;
+    private static long saturatingAdd(long total, long amount) {
+        return amount >= MAX_TOTAL_EXPERIENCE - total ? MAX_TOTAL_EXPERIENCE : total + amount;
     }
 
     @Override
     public String toString() {
-        return type + " (lvl " + level + ", xp " + experience + ")";
+        return type + " (lvl " + level + ", xp " + getExperience() + ")";
     }
 }
@@ -0,0 +1,219 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class SpatialGrid<T> {
+    private static final int INITIAL_CELL_CAPACITY = 4;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[][] cells;
+    private final int[] cellSizes;
+    private final Map<T, Integer> handles = new IdentityHashMap<>();
+    private Object[] entities = new Object[16];
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private int[] cellOf = new int[16];
+    private int[] slotOf = new int[16];
+    private int[] freeHandles = new int[16];
+    private int freeCount;
+    private int handleCount;
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Grid dimensions and cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][];
+        this.cellSizes = new int[columns * rows];
+    }
+
+    public int size() {
+        return handles.size();
+    }
+
+    public boolean contains(T entity) {
+        return handles.containsKey(entity);
+    }
+
+    public void insert(T entity, double x, double y) {
+        if (handles.containsKey(entity)) {
+            move(entity, x, y);
+            return;
+        }
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : nextHandle();
+        entities[handle] = entity;
+        xs[handle] = x;
+        ys[handle] = y;
+        addToCell(handle, cellIndex(x, y));
+        handles.put(entity, handle);
+    }
+
+    public boolean move(T entity, double x, double y) {
+        Integer handle = handles.get(entity);
+        if (handle == null) {
+            return false;
+        }
+        xs[handle] = x;
+        ys[handle] = y;
+        int cell = cellIndex(x, y);
+        if (cell != cellOf[handle]) {
+            removeFromCell(handle);
+            addToCell(handle, cell);
+        }
+        return true;
+    }
+
+    public boolean remove(T entity) {
+        Integer handle = handles.remove(entity);
+        if (handle == null) {
+            return false;
+        }
+        removeFromCell(handle);
+        entities[handle] = null;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+        return true;
+    }
+
+    public int forEachInRange(double x, double y, double radius, Consumer<? super T> action) {
+        double radiusSquared = radius * radius;
+        int minColumn = column(x - radius);
+        int maxColumn = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+        int found = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * columns + column;
+                int[] members = cells[cell];
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    int handle = members[i];
+                    double dx = xs[handle] - x;
+                    double dy = ys[handle] - y;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        action.accept(entity(handle));
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public List<T> findInRange(double x, double y, double radius) {
+        List<T> found = new ArrayList<>();
+        forEachInRange(x, y, radius, found::add);
+        return found;
+    }
+
+    public T findNearest(double x, double y, double maxRadius, Predicate<? super T> filter) {
+        int centerColumn = column(x);
+        int centerRow = row(y);
+        int maxRing = Math.max(columns, rows);
+        double bestSquared = maxRadius * maxRadius;
+        int best = -1;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Cells beyond this ring are at least ring * cellSize away, so stop once nothing there can win.
+            double ringDistance = Math.max(ring - 1, 0) * cellSize;
+            if (ringDistance * ringDistance > bestSquared) {
+                break;
+            }
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(2 * ring, 1);
+                for (int column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+                    if (column < 0 || column >= columns) {
+                        continue;
+                    }
+                    int cell = row * columns + column;
+                    int[] members = cells[cell];
+                    for (int i = 0; i < cellSizes[cell]; i++) {
+                        int handle = members[i];
+                        double dx = xs[handle] - x;
+                        double dy = ys[handle] - y;
+                        double distanceSquared = dx * dx + dy * dy;
+                        if (distanceSquared <= bestSquared && (best < 0 || distanceSquared < bestSquared)
+                                && filter.test(entity(handle))) {
+                            bestSquared = distanceSquared;
+                            best = handle;
+                        }
+                    }
+                }
+            }
+        }
+        return best < 0 ? null : entity(best);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T entity(int handle) {
+        return (T) entities[handle];
+    }
+
+    private int nextHandle() {
+        if (handleCount == entities.length) {
+            int capacity = handleCount * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            cellOf = Arrays.copyOf(cellOf, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+        }
+        return handleCount++;
+    }
+
+    private void addToCell(int handle, int cell) {
+        int[] members = cells[cell];
+        int size = cellSizes[cell];
+        if (members == null) {
+            members = new int[INITIAL_CELL_CAPACITY];
+            cells[cell] = members;
+        } else if (size == members.length) {
+            members = Arrays.copyOf(members, size * 2);
+            cells[cell] = members;
+        }
+        members[size] = handle;
+        cellSizes[cell] = size + 1;
+        cellOf[handle] = cell;
+        slotOf[handle] = size;
+    }
+
+    private void removeFromCell(int handle) {
+        int cell = cellOf[handle];
+        int slot = slotOf[handle];
+        int last = --cellSizes[cell];
+        int moved = cells[cell][last];
+        cells[cell][slot] = moved;
+        slotOf[moved] = slot;
+    }
+
+    private int cellIndex(double x, double y) {
+        return row(y) * columns + column(x);
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int limit) {
+        return index < 0 ? 0 : Math.min(index, limit - 1);
+    }
+}
@@ -9,6 +9,7 @@ public class Spell {
     private final double powerScaling;
     private final int durationSeconds;
     private final String effect;
+    private final SpellEffectType effectType;
 
     public Spell(
             String name,
@@ -18,7 +19,8 @@ public class Spell {
             int basePower,
             double powerScaling,
             int durationSeconds,
-            String effect
+            String effect,
+            SpellEffectType effectType
     ) {
         this.name = name;
         this.school = school;
@@ -28,6 +30,7 @@ public class Spell {
         this.powerScaling = powerScaling;
         this.durationSeconds = durationSeconds;
         this.effect = effect;
+        this.effectType = effectType;
     }
 
     public String getName() {
@@ -62,6 +65,10 @@ public class Spell {
         return effect;
     }
 
+    public SpellEffectType getEffectType() {
+        return effectType;
+    }
+
     @Override
     public String toString() {
         return name + " (" + school + ")";
@@ -0,0 +1,34 @@
+package com.rpg;
+
+public enum SpellCastOutcome {
+    CAST,
+    CASTER_DOWN,
+    TARGET_DOWN,
+    LEVEL_TOO_LOW,
+    ON_COOLDOWN,
+    NOT_ENOUGH_MANA,
+    EFFECT_KILL;
+
+    public String narrate(String casterName, String spellName, String targetName, int amount) {
+        switch (this) {
+            case CAST:
+                return amount > 0
+                        ? casterName + " casts " + spellName + " on " + targetName + " for " + amount + "."
+                        : casterName + " casts " + spellName + " on " + targetName + ".";
+            case CASTER_DOWN:
+                return casterName + " is down and cannot cast.";
+            case TARGET_DOWN:
+                return targetName + " is already down.";
+            case LEVEL_TOO_LOW:
+                return casterName + " has not yet mastered " + spellName + ".";
+            case ON_COOLDOWN:
+                return spellName + " is still recovering.";
+            case NOT_ENOUGH_MANA:
+                return casterName + " lacks the mana for " + spellName + ".";
+            case EFFECT_KILL:
+                return casterName + "'s " + spellName + " finishes " + targetName + " for " + amount + ".";
+            default:
+                throw new IllegalStateException("Unknown spell cast outcome: " + this);
+        }
+    }
+}
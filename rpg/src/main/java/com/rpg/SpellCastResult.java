@@ -0,0 +1,46 @@
+package com.rpg;
+
+public class SpellCastResult {
+    private final SpellCastOutcome outcome;
+    private final String casterName;
+    private final Spell spell;
+    private final String targetName;
+    private final int amount;
+    private final boolean killingBlow;
+
+    public SpellCastResult(
+            SpellCastOutcome outcome,
+            String casterName,
+            Spell spell,
+            String targetName,
+            int amount,
+            boolean killingBlow
+    ) {
+        this.outcome = outcome;
+        this.casterName = casterName;
+        this.spell = spell;
+        this.targetName = targetName;
+        this.amount = amount;
+        this.killingBlow = killingBlow;
+    }
+
+    public SpellCastOutcome getOutcome() {
+        return outcome;
+    }
+
+    public Spell getSpell() {
+        return spell;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public boolean isKillingBlow() {
+        return killingBlow;
+    }
+
+    public String getNarration() {
+        return outcome.narrate(casterName, spell.getName(), targetName, amount);
+    }
+}
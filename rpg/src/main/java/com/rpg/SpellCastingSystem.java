@@ -0,0 +1,395 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class SpellCastingSystem {
+    private static final int PULSE_DIVISOR = 4;
+    private static final int BUFF_POWER_PERCENT = 10;
+    private static final int DEBUFF_DAMAGE_PERCENT = 10;
+    private static final int MANA_PER_COOLDOWN_SECOND = 10;
+    private static final int MANA_REGEN_PERCENT_PER_SECOND = 5;
+
+    private final int ticksPerSecond;
+    private final TimingWheel<ActiveEffect> timers = new TimingWheel<>(1024);
+    private final Map<Combatant, SpellState> states = new IdentityHashMap<>();
+    private final Consumer<ActiveEffect> onTimer = this::onTimer;
+    private int activeEffects;
+    private Consumer<? super SpellCastResult> kills;
+
+    public SpellCastingSystem(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+    }
+
+    public static SpellCastingSystem forProfile(GraphicsProfile profile) {
+        return new SpellCastingSystem(profile.getTargetFps());
+    }
+
+    public static int cooldownSeconds(Spell spell) {
+        // Lingering spells recover when their effect ends; instant ones recover faster the cheaper they are.
+        return Math.max(spell.getDurationSeconds(), 1 + spell.getManaCost() / MANA_PER_COOLDOWN_SECOND);
+    }
+
+    public static int spellPower(Spell spell, Combatant caster) {
+        return spell.getBasePower() + (int) Math.round(spell.getPowerScaling() * caster.getMagicPower());
+    }
+
+    public static int manaRegenPerSecond(Combatant combatant) {
+        return Math.max(combatant.getMaxMana() * MANA_REGEN_PERCENT_PER_SECOND / 100, 1);
+    }
+
+    public static boolean isBeneficial(Spell spell) {
+        switch (spell.getEffectType()) {
+            case HEAL_OVER_TIME:
+            case WARD:
+            case BUFF:
+                return true;
+            case INSTANT:
+                return spell.getSchool() == MagicSchool.HEALING;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized long getCurrentTick() {
+        return timers.getCurrentTick();
+    }
+
+    public synchronized int getActiveEffectCount() {
+        return activeEffects;
+    }
+
+    public synchronized SpellCastResult cast(Combatant caster, Spell spell, Combatant target) {
+        if (!caster.isAlive()) {
+            return result(SpellCastOutcome.CASTER_DOWN, caster, spell, target, 0, false);
+        }
+        if (!target.isAlive()) {
+            return result(SpellCastOutcome.TARGET_DOWN, caster, spell, target, 0, false);
+        }
+        if (caster instanceof Player
+                && ((Player) caster).getSkill(SkillType.MAGIC_SCHOOLS).getLevel() < spell.getRequiredLevel()) {
+            return result(SpellCastOutcome.LEVEL_TOO_LOW, caster, spell, target, 0, false);
+        }
+        long now = timers.getCurrentTick();
+        SpellState casterState = states.get(caster);
+        if (casterState != null && casterState.readyAt(spell) > now) {
+            return result(SpellCastOutcome.ON_COOLDOWN, caster, spell, target, 0, false);
+        }
+        if (!caster.spendMana(spell.getManaCost())) {
+            return result(SpellCastOutcome.NOT_ENOUGH_MANA, caster, spell, target, 0, false);
+        }
+        if (casterState == null) {
+            casterState = new SpellState(caster);
+            states.put(caster, casterState);
+        }
+        casterState.startCooldown(spell, now, now + (long) cooldownSeconds(spell) * ticksPerSecond);
+        if (!casterState.upkeepScheduled) {
+            casterState.upkeepScheduled = true;
+            casterState.upkeep.handle = timers.schedule(ticksPerSecond, casterState.upkeep);
+        }
+
+        int power = spellPower(spell, caster) * (100 + BUFF_POWER_PERCENT * casterState.buffs) / 100;
+        boolean beneficial = isBeneficial(spell);
+        SpellState targetState = states.get(target);
+        int amount = 0;
+        boolean killed = false;
+        if (power > 0 && spell.getEffectType() != SpellEffectType.WARD && spell.getEffectType() != SpellEffectType.BUFF) {
+            if (beneficial) {
+                amount = target.heal(power);
+            } else {
+                amount = CombatSystem.spellDamage(power, target.getDefenseRating());
+                if (targetState != null) {
+                    amount = amount * (100 + DEBUFF_DAMAGE_PERCENT * targetState.debuffs) / 100;
+                }
+                amount = absorb(targetState, amount);
+                killed = target.takeDamage(amount);
+            }
+        }
+
+        int durationSeconds = spell.getDurationSeconds();
+        if (!beneficial) {
+            durationSeconds = target.adjustDebuffDuration(durationSeconds, target.getShieldDurability() > 0);
+        }
+        if (spell.getEffectType() != SpellEffectType.INSTANT && durationSeconds > 0 && target.isAlive()) {
+            // Re-read: breaking the target's last ward above may have dropped its state.
+            targetState = states.get(target);
+            if (targetState == null) {
+                targetState = new SpellState(target);
+                states.put(target, targetState);
+            }
+            startEffect(spell, caster, target, targetState, power, amount, durationSeconds);
+        }
+        return result(SpellCastOutcome.CAST, caster, spell, target, amount, killed);
+    }
+
+    public synchronized int advance(Consumer<? super SpellCastResult> kills) {
+        // Lingering damage can land the killing blow between casts; those deaths are reported here.
+        this.kills = kills;
+        try {
+            return timers.advance(onTimer);
+        } finally {
+            this.kills = null;
+        }
+    }
+
+    public synchronized long getCooldownRemainingTicks(Combatant caster, Spell spell) {
+        SpellState state = states.get(caster);
+        return state == null ? 0 : Math.max(state.readyAt(spell) - timers.getCurrentTick(), 0);
+    }
+
+    public synchronized boolean isRooted(Combatant combatant) {
+        SpellState state = states.get(combatant);
+        return state != null && state.roots > 0;
+    }
+
+    public synchronized int getWardRemaining(Combatant combatant) {
+        SpellState state = states.get(combatant);
+        if (state == null) {
+            return 0;
+        }
+        int remaining = 0;
+        for (ActiveEffect effect : state.effects) {
+            if (effect.type == SpellEffectType.WARD) {
+                remaining += effect.amount;
+            }
+        }
+        return remaining;
+    }
+
+    public synchronized int getActiveEffectCount(Combatant combatant) {
+        SpellState state = states.get(combatant);
+        return state == null ? 0 : state.effects.size();
+    }
+
+    public synchronized int clearEffects(Combatant combatant) {
+        SpellState state = states.get(combatant);
+        if (state == null) {
+            return 0;
+        }
+        int cleared = state.effects.size();
+        while (!state.effects.isEmpty()) {
+            ActiveEffect effect = state.effects.get(state.effects.size() - 1);
+            timers.cancel(effect.handle);
+            end(effect);
+        }
+        return cleared;
+    }
+
+    private void startEffect(
+            Spell spell,
+            Combatant caster,
+            Combatant target,
+            SpellState state,
+            int power,
+            int amount,
+            int durationSeconds
+    ) {
+        ActiveEffect effect = new ActiveEffect(spell, caster, target, state);
+        long delay = (long) durationSeconds * ticksPerSecond;
+        switch (effect.type) {
+            case DAMAGE_OVER_TIME:
+                effect.amount = Math.max(amount / PULSE_DIVISOR, 1);
+                effect.pulsesLeft = durationSeconds;
+                delay = ticksPerSecond;
+                break;
+            case HEAL_OVER_TIME:
+                effect.amount = Math.max(power / PULSE_DIVISOR, 1);
+                effect.pulsesLeft = durationSeconds;
+                delay = ticksPerSecond;
+                break;
+            case ROOT:
+                state.roots++;
+                break;
+            case WARD:
+                effect.amount = Math.max(power, 1);
+                break;
+            case BUFF:
+                state.buffs++;
+                break;
+            case DEBUFF:
+                state.debuffs++;
+                break;
+            default:
+                throw new IllegalStateException("Effect type has no timer: " + effect.type);
+        }
+        state.effects.add(effect);
+        activeEffects++;
+        effect.handle = timers.schedule(delay, effect);
+    }
+
+    private void onTimer(ActiveEffect effect) {
+        if (effect.type == null) {
+            upkeep(effect.state, effect.target);
+            return;
+        }
+        if (effect.type == SpellEffectType.DAMAGE_OVER_TIME) {
+            int landed = absorb(effect.state, effect.amount);
+            if (effect.target.takeDamage(landed) && kills != null) {
+                kills.accept(new SpellCastResult(SpellCastOutcome.EFFECT_KILL, effect.caster.getName(), effect.spell,
+                        effect.target.getName(), landed, true));
+            }
+        } else if (effect.type == SpellEffectType.HEAL_OVER_TIME) {
+            effect.target.heal(effect.amount);
+        }
+        if (--effect.pulsesLeft > 0 && effect.target.isAlive()) {
+            effect.handle = timers.schedule(ticksPerSecond, effect);
+        } else {
+            end(effect);
+        }
+    }
+
+    private void upkeep(SpellState state, Combatant owner) {
+        boolean alive = owner.isAlive();
+        if (alive) {
+            owner.restoreMana(manaRegenPerSecond(owner));
+        }
+        // Runs once a second while the owner is missing mana or has a cooldown pending, then lets the state go.
+        if ((alive && owner.getMana() < owner.getMaxMana()) || state.hasCooldowns(timers.getCurrentTick())) {
+            state.upkeep.handle = timers.schedule(ticksPerSecond, state.upkeep);
+            return;
+        }
+        state.upkeepScheduled = false;
+        if (state.isIdle()) {
+            states.remove(owner);
+        }
+    }
+
+    private int absorb(SpellState state, int damage) {
+        if (state != null) {
+            for (int i = 0; i < state.effects.size() && damage > 0; i++) {
+                ActiveEffect ward = state.effects.get(i);
+                if (ward.type != SpellEffectType.WARD) {
+                    continue;
+                }
+                int absorbed = Math.min(ward.amount, damage);
+                ward.amount -= absorbed;
+                damage -= absorbed;
+                if (ward.amount == 0) {
+                    timers.cancel(ward.handle);
+                    end(ward);
+                    i--;
+                }
+            }
+        }
+        return damage;
+    }
+
+    private void end(ActiveEffect effect) {
+        SpellState state = effect.state;
+        switch (effect.type) {
+            case ROOT:
+                state.roots--;
+                break;
+            case BUFF:
+                state.buffs--;
+                break;
+            case DEBUFF:
+                state.debuffs--;
+                break;
+            default:
+                break;
+        }
+        state.effects.remove(effect);
+        activeEffects--;
+        if (state.isIdle()) {
+            states.remove(effect.target);
+        }
+    }
+
+    private static SpellCastResult result(
+            SpellCastOutcome outcome,
+            Combatant caster,
+            Spell spell,
+            Combatant target,
+            int amount,
+            boolean killed
+    ) {
+        return new SpellCastResult(outcome, caster.getName(), spell, target.getName(), amount, killed);
+    }
+
+    private static final class ActiveEffect {
+        private final SpellEffectType type;
+        private final Spell spell;
+        private final Combatant caster;
+        private final Combatant target;
+        private final SpellState state;
+        private int amount;
+        private int pulsesLeft;
+        private long handle;
+
+        private ActiveEffect(Spell spell, Combatant caster, Combatant target, SpellState state) {
+            this.type = spell == null ? null : spell.getEffectType();
+            this.spell = spell;
+            this.caster = caster;
+            this.target = target;
+            this.state = state;
+        }
+    }
+
+    private static final class SpellState {
+        private final List<ActiveEffect> effects = new ArrayList<>(2);
+        // A null effect type marks this combatant's once-a-second upkeep: mana regeneration and cooldown expiry.
+        private final ActiveEffect upkeep;
+        private boolean upkeepScheduled;
+        private Spell[] cooldownSpells = new Spell[4];
+        private long[] readyAt = new long[4];
+        private int cooldownCount;
+        private int roots;
+        private int buffs;
+        private int debuffs;
+
+        private SpellState(Combatant owner) {
+            upkeep = new ActiveEffect(null, owner, owner, this);
+        }
+
+        private long readyAt(Spell spell) {
+            for (int i = 0; i < cooldownCount; i++) {
+                if (cooldownSpells[i] == spell) {
+                    return readyAt[i];
+                }
+            }
+            return 0;
+        }
+
+        private void startCooldown(Spell spell, long now, long until) {
+            // Expired cooldowns are compacted away here rather than by a per-tick sweep.
+            int kept = 0;
+            for (int i = 0; i < cooldownCount; i++) {
+                if (readyAt[i] > now && cooldownSpells[i] != spell) {
+                    cooldownSpells[kept] = cooldownSpells[i];
+                    readyAt[kept] = readyAt[i];
+                    kept++;
+                }
+            }
+            Arrays.fill(cooldownSpells, kept, cooldownCount, null);
+            cooldownCount = kept;
+            if (cooldownCount == cooldownSpells.length) {
+                cooldownSpells = Arrays.copyOf(cooldownSpells, cooldownCount * 2);
+                readyAt = Arrays.copyOf(readyAt, cooldownCount * 2);
+            }
+            cooldownSpells[cooldownCount] = spell;
+            readyAt[cooldownCount] = until;
+            cooldownCount++;
+        }
+
+        private boolean hasCooldowns(long now) {
+            for (int i = 0; i < cooldownCount; i++) {
+                if (readyAt[i] > now) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isIdle() {
+            return effects.isEmpty() && !upkeepScheduled;
+        }
+    }
+}
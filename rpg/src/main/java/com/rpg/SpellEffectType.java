@@ -0,0 +1,11 @@
+package com.rpg;
+
+public enum SpellEffectType {
+    INSTANT,
+    DAMAGE_OVER_TIME,
+    HEAL_OVER_TIME,
+    ROOT,
+    WARD,
+    BUFF,
+    DEBUFF
+}
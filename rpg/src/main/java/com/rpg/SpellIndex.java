@@ -0,0 +1,91 @@
+package com.rpg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SpellIndex {
+    private final Map<MagicSchool, List<Spell>> bySchool = new EnumMap<>(MagicSchool.class);
+    private final List<Spell> all;
+    private final List<Spell> byLevel;
+    private final int[] levels;
+    private final List<Spell> byManaCost;
+    private final int[] manaCosts;
+    private final Map<String, Spell> byName;
+
+    SpellIndex(List<Spell> spells) {
+        for (MagicSchool school : MagicSchool.values()) {
+            bySchool.put(school, new ArrayList<>());
+        }
+        for (Spell spell : spells) {
+            bySchool.get(spell.getSchool()).add(spell);
+        }
+        List<Spell> grouped = new ArrayList<>(spells.size());
+        for (Map.Entry<MagicSchool, List<Spell>> entry : bySchool.entrySet()) {
+            entry.setValue(List.copyOf(entry.getValue()));
+            grouped.addAll(entry.getValue());
+        }
+        this.all = List.copyOf(grouped);
+        List<Spell> sortedByLevel = new ArrayList<>(all);
+        sortedByLevel.sort(Comparator.comparingInt(Spell::getRequiredLevel));
+        this.byLevel = List.copyOf(sortedByLevel);
+        this.levels = new int[byLevel.size()];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = byLevel.get(i).getRequiredLevel();
+        }
+        List<Spell> sortedByManaCost = new ArrayList<>(all);
+        sortedByManaCost.sort(Comparator.comparingInt(Spell::getManaCost));
+        this.byManaCost = List.copyOf(sortedByManaCost);
+        this.manaCosts = new int[byManaCost.size()];
+        for (int i = 0; i < manaCosts.length; i++) {
+            manaCosts[i] = byManaCost.get(i).getManaCost();
+        }
+        Map<String, Spell> names = new HashMap<>();
+        for (Spell spell : all) {
+            names.putIfAbsent(spell.getName(), spell);
+        }
+        this.byName = Map.copyOf(names);
+    }
+
+    List<Spell> forSchool(MagicSchool school) {
+        return bySchool.get(school);
+    }
+
+    List<Spell> all() {
+        return all;
+    }
+
+    List<Spell> upToLevel(int level) {
+        return byLevel.subList(0, firstAbove(levels, level));
+    }
+
+    List<Spell> manaCostBetween(int minManaCost, int maxManaCost) {
+        if (minManaCost > maxManaCost) {
+            return List.of();
+        }
+        // minManaCost - 1 would wrap around at Integer.MIN_VALUE, and nothing costs less than that anyway.
+        int from = minManaCost == Integer.MIN_VALUE ? 0 : firstAbove(manaCosts, minManaCost - 1);
+        return byManaCost.subList(from, firstAbove(manaCosts, maxManaCost));
+    }
+
+    Spell named(String name) {
+        return byName.get(name);
+    }
+
+    private static int firstAbove(int[] sorted, int key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,76 @@
+package com.rpg;
+
+public class TickMetrics {
+    private long tickCount;
+    private long overrunCount;
+    private long skippedTicks;
+    private long totalDurationNanos;
+    private long maxDurationNanos;
+    private long totalJitterNanos;
+    private long maxJitterNanos;
+
+    void recordTick(long durationNanos, long jitterNanos) {
+        tickCount++;
+        totalDurationNanos += durationNanos;
+        maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+        totalJitterNanos += jitterNanos;
+        maxJitterNanos = Math.max(maxJitterNanos, jitterNanos);
+    }
+
+    void recordOverrun(long droppedTicks) {
+        overrunCount++;
+        skippedTicks += droppedTicks;
+    }
+
+    void reset() {
+        tickCount = 0;
+        overrunCount = 0;
+        skippedTicks = 0;
+        totalDurationNanos = 0;
+        maxDurationNanos = 0;
+        totalJitterNanos = 0;
+        maxJitterNanos = 0;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    public long getMaxDurationNanos() {
+        return maxDurationNanos;
+    }
+
+    public double getAverageDurationNanos() {
+        return tickCount == 0 ? 0.0 : (double) totalDurationNanos / tickCount;
+    }
+
+    public long getMaxJitterNanos() {
+        return maxJitterNanos;
+    }
+
+    public double getAverageJitterNanos() {
+        return tickCount == 0 ? 0.0 : (double) totalJitterNanos / tickCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ticks %d, avg %.3f ms, max %.3f ms, avg jitter %.3f ms, max jitter %.3f ms, overruns %d, skipped %d",
+                tickCount,
+                getAverageDurationNanos() / 1_000_000.0,
+                maxDurationNanos / 1_000_000.0,
+                getAverageJitterNanos() / 1_000_000.0,
+                maxJitterNanos / 1_000_000.0,
+                overrunCount,
+                skippedTicks
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.rpg;
+
+public enum TickOverrunPolicy {
+    CATCH_UP,
+    SKIP
+}
@@ -0,0 +1,101 @@
+package com.rpg;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class TickScheduler {
+    private static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    private final long tickIntervalNanos;
+    private final TickOverrunPolicy overrunPolicy;
+    private final int maxCatchUpTicks;
+    private final TickMetrics metrics = new TickMetrics();
+    private volatile boolean running;
+
+    public TickScheduler(int ticksPerSecond) {
+        this(ticksPerSecond, TickOverrunPolicy.CATCH_UP, DEFAULT_MAX_CATCH_UP_TICKS);
+    }
+
+    public TickScheduler(int ticksPerSecond, TickOverrunPolicy overrunPolicy, int maxCatchUpTicks) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        if (maxCatchUpTicks < 0) {
+            throw new IllegalArgumentException("Max catch-up ticks cannot be negative: " + maxCatchUpTicks);
+        }
+        this.tickIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+        this.overrunPolicy = overrunPolicy;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    public static TickScheduler forProfile(GraphicsProfile profile) {
+        return new TickScheduler(profile.getTargetFps());
+    }
+
+    public long getTickIntervalNanos() {
+        return tickIntervalNanos;
+    }
+
+    public TickOverrunPolicy getOverrunPolicy() {
+        return overrunPolicy;
+    }
+
+    public TickMetrics getMetrics() {
+        return metrics;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    public long run(long maxTicks, TickTask task) {
+        metrics.reset();
+        running = true;
+        long tick = 0;
+        long nextTickAt = System.nanoTime();
+        try {
+            while (running && tick < maxTicks) {
+                long now = System.nanoTime();
+                long wait = nextTickAt - now;
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                tick++;
+                boolean keepGoing = task.onTick(tick);
+                long finishedAt = System.nanoTime();
+                metrics.recordTick(finishedAt - now, now - nextTickAt);
+                if (!keepGoing) {
+                    break;
+                }
+                nextTickAt = scheduleNext(nextTickAt + tickIntervalNanos, finishedAt);
+            }
+        } finally {
+            running = false;
+        }
+        return tick;
+    }
+
+    private long scheduleNext(long deadline, long finishedAt) {
+        long behind = finishedAt - deadline;
+        if (behind <= 0) {
+            return deadline;
+        }
+        long missed = behind / tickIntervalNanos + 1;
+        if (overrunPolicy == TickOverrunPolicy.SKIP) {
+            metrics.recordOverrun(missed);
+            return deadline + missed * tickIntervalNanos;
+        }
+        if (missed > maxCatchUpTicks) {
+            long dropped = missed - maxCatchUpTicks;
+            metrics.recordOverrun(dropped);
+            return deadline + dropped * tickIntervalNanos;
+        }
+        metrics.recordOverrun(0);
+        return deadline;
+    }
+}
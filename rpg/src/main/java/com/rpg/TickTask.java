@@ -0,0 +1,5 @@
+package com.rpg;
+
+public interface TickTask {
+    boolean onTick(long tick);
+}
@@ -0,0 +1,162 @@
+package com.rpg;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    // Eleven 64-slot levels cover every long deadline, so nothing needs an overflow list.
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+    private static final int NONE = -1;
+
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private Object[] payloads;
+    private long[] deadlines;
+    private int[] next;
+    private int[] prev;
+    private int[] bucketOf;
+    private int[] generations;
+    private int freeHead = NONE;
+    private int handleCount;
+    private int size;
+    private long currentTick;
+
+    public TimingWheel(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        Arrays.fill(heads, NONE);
+        payloads = new Object[capacity];
+        deadlines = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        bucketOf = new int[capacity];
+        generations = new int[capacity];
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long schedule(long delayTicks, T payload) {
+        int entry = freeHead != NONE ? popFree() : nextEntry();
+        payloads[entry] = payload;
+        deadlines[entry] = currentTick + Math.max(delayTicks, 1);
+        place(entry);
+        size++;
+        return ((long) generations[entry] << 32) | entry;
+    }
+
+    public boolean cancel(long handle) {
+        int entry = (int) handle;
+        if (entry < 0 || entry >= handleCount || generations[entry] != (int) (handle >>> 32) || bucketOf[entry] == NONE) {
+            return false;
+        }
+        unlink(entry);
+        release(entry);
+        return true;
+    }
+
+    public int advance(Consumer<? super T> expired) {
+        long tick = ++currentTick;
+        int level = 1;
+        while (level < LEVELS && (tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        // Higher levels cascade first so their entries can land in the lower slots cascaded next.
+        for (int l = level - 1; l >= 1; l--) {
+            cascade(l * SLOTS + (int) ((tick >>> (SLOT_BITS * l)) & SLOT_MASK));
+        }
+        int bucket = (int) (tick & SLOT_MASK);
+        int fired = 0;
+        int entry;
+        // Entries are popped one at a time so a callback may cancel others still waiting in this slot.
+        while ((entry = heads[bucket]) != NONE) {
+            unlink(entry);
+            @SuppressWarnings("unchecked")
+            T payload = (T) payloads[entry];
+            release(entry);
+            expired.accept(payload);
+            fired++;
+        }
+        return fired;
+    }
+
+    public int advanceTo(long tick, Consumer<? super T> expired) {
+        int fired = 0;
+        while (currentTick < tick) {
+            fired += advance(expired);
+        }
+        return fired;
+    }
+
+    private void cascade(int bucket) {
+        int entry = heads[bucket];
+        heads[bucket] = NONE;
+        while (entry != NONE) {
+            int following = next[entry];
+            place(entry);
+            entry = following;
+        }
+    }
+
+    private void place(int entry) {
+        long deadline = deadlines[entry];
+        long differing = deadline ^ currentTick;
+        int level = differing == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        int bucket = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        int head = heads[bucket];
+        next[entry] = head;
+        prev[entry] = NONE;
+        if (head != NONE) {
+            prev[head] = entry;
+        }
+        heads[bucket] = entry;
+        bucketOf[entry] = bucket;
+    }
+
+    private void unlink(int entry) {
+        int before = prev[entry];
+        int after = next[entry];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            heads[bucketOf[entry]] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+    }
+
+    private void release(int entry) {
+        payloads[entry] = null;
+        bucketOf[entry] = NONE;
+        generations[entry]++;
+        next[entry] = freeHead;
+        freeHead = entry;
+        size--;
+    }
+
+    private int popFree() {
+        int entry = freeHead;
+        freeHead = next[entry];
+        return entry;
+    }
+
+    private int nextEntry() {
+        if (handleCount == payloads.length) {
+            int capacity = payloads.length * 2;
+            payloads = Arrays.copyOf(payloads, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            bucketOf = Arrays.copyOf(bucketOf, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+        }
+        return handleCount++;
+    }
+}
@@ -0,0 +1,71 @@
+package com.rpg;
+
+public class Trade {
+    private final long tradeId;
+    private final String itemName;
+    private final long price;
+    private final int quantity;
+    private final long buyOrderId;
+    private final long sellOrderId;
+    private final long buyerId;
+    private final long sellerId;
+    private final long timestampMillis;
+
+    public Trade(
+            long tradeId,
+            String itemName,
+            long price,
+            int quantity,
+            long buyOrderId,
+            long sellOrderId,
+            long buyerId,
+            long sellerId,
+            long timestampMillis
+    ) {
+        this.tradeId = tradeId;
+        this.itemName = itemName;
+        this.price = price;
+        this.quantity = quantity;
+        this.buyOrderId = buyOrderId;
+        this.sellOrderId = sellOrderId;
+        this.buyerId = buyerId;
+        this.sellerId = sellerId;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public long getTradeId() {
+        return tradeId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public long getBuyOrderId() {
+        return buyOrderId;
+    }
+
+    public long getSellOrderId() {
+        return sellOrderId;
+    }
+
+    public long getBuyerId() {
+        return buyerId;
+    }
+
+    public long getSellerId() {
+        return sellerId;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+}
@@ -0,0 +1,338 @@
+package com.rpg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class TradeJournal implements AutoCloseable {
+    private static final byte ORDER_RECORD = 1;
+    private static final byte TRADE_RECORD = 2;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int SNAPSHOT_MAGIC = 0x52504753;
+    private static final int JOURNAL_MAGIC = 0x52504A4C;
+    private static final int JOURNAL_HEADER_BYTES = 4 + 8;
+    private static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final TradeListener REPLAYED_TRADES = trade -> { };
+
+    private final Path journalPath;
+    private final Path snapshotPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+    private int recordStart;
+    private long pendingRecords;
+    private long commitCount;
+    private long epoch;
+
+    public TradeJournal(Path journalPath, Path snapshotPath) {
+        this(journalPath, snapshotPath, DEFAULT_BUFFER_BYTES);
+    }
+
+    public TradeJournal(Path journalPath, Path snapshotPath, int bufferBytes) {
+        this.journalPath = journalPath;
+        this.snapshotPath = snapshotPath;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        try {
+            this.channel = FileChannel.open(
+                    journalPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+            );
+            long size = channel.size();
+            if (size < JOURNAL_HEADER_BYTES) {
+                // New file, or a reset torn before its header was written; either way nothing is lost.
+                reset(0);
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_BYTES);
+                readFully(0, header);
+                if (header.getInt(0) != JOURNAL_MAGIC) {
+                    throw new IllegalStateException("Unrecognized trade journal at " + journalPath);
+                }
+                epoch = header.getLong(4);
+                channel.position(size);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open trade journal at " + journalPath, e);
+        }
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    public boolean hasPending() {
+        return pendingRecords > 0;
+    }
+
+    public long getPendingRecords() {
+        return pendingRecords;
+    }
+
+    public void appendOrder(Order order) {
+        byte[] item = order.getItemName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = begin(1 + 8 + 8 + 1 + 1 + 8 + 4 + 2 + item.length);
+        record.put(ORDER_RECORD)
+                .putLong(order.getOrderId())
+                .putLong(order.getOwnerId())
+                .put((byte) order.getSide().ordinal())
+                .put((byte) order.getType().ordinal())
+                .putLong(order.getPrice())
+                .putInt(order.getRemaining())
+                .putShort((short) item.length)
+                .put(item);
+        end();
+    }
+
+    public void appendTrade(Trade trade) {
+        byte[] item = trade.getItemName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = begin(1 + 7 * 8 + 4 + 2 + item.length);
+        record.put(TRADE_RECORD)
+                .putLong(trade.getTradeId())
+                .putLong(trade.getPrice())
+                .putInt(trade.getQuantity())
+                .putLong(trade.getBuyOrderId())
+                .putLong(trade.getSellOrderId())
+                .putLong(trade.getBuyerId())
+                .putLong(trade.getSellerId())
+                .putLong(trade.getTimestampMillis())
+                .putShort((short) item.length)
+                .put(item);
+        end();
+    }
+
+    public void commit() {
+        if (pendingRecords == 0 && buffer.position() == 0) {
+            return;
+        }
+        drain();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to sync trade journal at " + journalPath, e);
+        }
+        pendingRecords = 0;
+        commitCount++;
+    }
+
+    public void writeSnapshot(Map<String, OrderBook> books, long lastOrderId) {
+        commit();
+        long nextEpoch = epoch + 1;
+        List<Order> orders = new ArrayList<>();
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            ByteBuffer header = ByteBuffer.allocate(4 + 8 + 8 + 4);
+            header.putInt(SNAPSHOT_MAGIC).putLong(nextEpoch).putLong(lastOrderId).putInt(books.size());
+            writeFully(out, header.flip());
+            for (OrderBook book : books.values()) {
+                orders.clear();
+                book.forEachRestingOrder(orders::add);
+                byte[] item = book.getItemName().getBytes(StandardCharsets.UTF_8);
+                ByteBuffer section = ByteBuffer.allocate(2 + item.length + 8 + 4 + orders.size() * (8 + 8 + 1 + 8 + 4));
+                section.putShort((short) item.length).put(item).putLong(book.getTradeSequence()).putInt(orders.size());
+                for (Order order : orders) {
+                    section.putLong(order.getOrderId())
+                            .putLong(order.getOwnerId())
+                            .put((byte) order.getSide().ordinal())
+                            .putLong(order.getPrice())
+                            .putInt(order.getRemaining());
+                }
+                writeFully(out, section.flip());
+            }
+            out.force(true);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write order snapshot at " + snapshotPath, e);
+        }
+        try {
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to install order snapshot at " + snapshotPath, e);
+        }
+        // The snapshot covers everything journaled so far, so the journal restarts empty under the new epoch.
+        // A crash before this reset leaves an older epoch behind, which recover() recognizes and discards.
+        try {
+            reset(nextEpoch);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to roll over trade journal at " + journalPath, e);
+        }
+    }
+
+    public long recover(Map<String, OrderBook> books) {
+        long lastOrderId = 0;
+        long snapshotEpoch = 0;
+        try {
+            if (Files.exists(snapshotPath)) {
+                ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+                if (snapshot.getInt() != SNAPSHOT_MAGIC) {
+                    throw new IllegalStateException("Unrecognized order snapshot at " + snapshotPath);
+                }
+                snapshotEpoch = snapshot.getLong();
+                lastOrderId = snapshot.getLong();
+                int bookCount = snapshot.getInt();
+                for (int b = 0; b < bookCount; b++) {
+                    String itemName = readString(snapshot);
+                    long tradeSequence = snapshot.getLong();
+                    int orderCount = snapshot.getInt();
+                    OrderBook book = books.computeIfAbsent(itemName, OrderBook::new);
+                    book.restoreTradeSequence(tradeSequence);
+                    for (int o = 0; o < orderCount; o++) {
+                        long orderId = snapshot.getLong();
+                        long ownerId = snapshot.getLong();
+                        OrderSide side = SIDES[snapshot.get()];
+                        long price = snapshot.getLong();
+                        int remaining = snapshot.getInt();
+                        book.restore(Order.limit(orderId, ownerId, itemName, side, price, remaining));
+                    }
+                }
+            }
+            if (snapshotEpoch > epoch) {
+                // Crashed between installing the snapshot and rolling the journal over: its records are all covered.
+                reset(snapshotEpoch);
+                return lastOrderId;
+            }
+            if (snapshotEpoch < epoch) {
+                throw new IllegalStateException("Trade journal at " + journalPath + " is newer than its snapshot");
+            }
+            return Math.max(lastOrderId, replay(books, JOURNAL_HEADER_BYTES));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to recover trade journal at " + journalPath, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        commit();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to close trade journal at " + journalPath, e);
+        }
+    }
+
+    private long replay(Map<String, OrderBook> books, long from) throws IOException {
+        long lastOrderId = 0;
+        long position = from;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        while (position + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+            readFully(position, header);
+            int length = header.getInt(0);
+            int checksum = header.getInt(4);
+            if (length <= 0 || position + RECORD_HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(position + RECORD_HEADER_BYTES, payload);
+            crc.reset();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            payload.flip();
+            if (payload.get() == ORDER_RECORD) {
+                long orderId = payload.getLong();
+                long ownerId = payload.getLong();
+                OrderSide side = SIDES[payload.get()];
+                OrderType type = TYPES[payload.get()];
+                long price = payload.getLong();
+                int quantity = payload.getInt();
+                String itemName = readString(payload);
+                Order order = new Order(orderId, ownerId, itemName, side, type, price, quantity);
+                // Trades were journaled when they happened; replay only rebuilds book state and trade ids.
+                books.computeIfAbsent(itemName, OrderBook::new).submit(order, REPLAYED_TRADES);
+                lastOrderId = Math.max(lastOrderId, orderId);
+            }
+            position += RECORD_HEADER_BYTES + length;
+        }
+        if (position < size) {
+            // Drop a torn or corrupt tail left by a crash mid-write.
+            channel.truncate(position);
+        }
+        channel.position(position);
+        return lastOrderId;
+    }
+
+    private void reset(long newEpoch) throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_BYTES);
+        header.putInt(JOURNAL_MAGIC).putLong(newEpoch);
+        channel.position(0);
+        writeFully(channel, header.flip());
+        channel.force(false);
+        epoch = newEpoch;
+    }
+
+    private ByteBuffer begin(int payloadBytes) {
+        if (RECORD_HEADER_BYTES + payloadBytes > buffer.remaining()) {
+            drain();
+        }
+        if (RECORD_HEADER_BYTES + payloadBytes > buffer.capacity()) {
+            throw new IllegalArgumentException("Journal record exceeds buffer size");
+        }
+        recordStart = buffer.position();
+        buffer.putInt(payloadBytes).putInt(0);
+        return buffer;
+    }
+
+    private void end() {
+        int payloadStart = recordStart + RECORD_HEADER_BYTES;
+        if (buffer.position() - payloadStart != buffer.getInt(recordStart)) {
+            throw new IllegalStateException("Journal record length does not match its header");
+        }
+        crc.reset();
+        crc.update(buffer.duplicate().position(payloadStart).limit(buffer.position()));
+        buffer.putInt(recordStart + 4, (int) crc.getValue());
+        pendingRecords++;
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            writeFully(channel, buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write trade journal at " + journalPath, e);
+        }
+        buffer.clear();
+    }
+
+    private void readFully(long position, ByteBuffer target) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Unexpected end of trade journal at " + journalPath);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            out.write(source);
+        }
+    }
+
+    private static String readString(ByteBuffer source) {
+        byte[] bytes = new byte[source.getShort() & 0xFFFF];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,8 @@
+package com.rpg;
+
+public interface TradeListener {
+    void onTrade(Trade trade);
+
+    default void onCancelRejected(Order cancel) {
+    }
+}
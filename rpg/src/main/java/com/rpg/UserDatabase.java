@@ -5,9 +5,16 @@ import java.util.Optional;
 public interface UserDatabase {
     Optional<UserRecord> findUser(String username);
 
-    default boolean verifyCredentials(String username, String password) {
+    default Optional<UserRecord> authenticate(String username, String password) {
         return findUser(username)
-                .map(record -> new PasswordHasher().hash(password).equals(record.getPasswordHash()))
-                .orElse(false);
+                .filter(record -> new PasswordHasher().matches(password, record));
+    }
+
+    default boolean verifyCredentials(String username, String password) {
+        return authenticate(username, password).isPresent();
+    }
+
+    default boolean updateUser(UserRecord record) {
+        return false;
     }
 }
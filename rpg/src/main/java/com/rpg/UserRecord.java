@@ -3,11 +3,13 @@ package com.rpg;
 public class UserRecord {
     private final String username;
     private final String passwordHash;
+    private final PasswordHash storedHash;
     private final String role;
 
     public UserRecord(String username, String passwordHash, String role) {
         this.username = username;
         this.passwordHash = passwordHash;
+        this.storedHash = PasswordHash.parse(passwordHash);
         this.role = role;
     }
 
@@ -19,6 +21,10 @@ public class UserRecord {
         return passwordHash;
     }
 
+    public PasswordHash getStoredHash() {
+        return storedHash;
+    }
+
     public String getRole() {
         return role;
     }
@@ -0,0 +1,43 @@
+package com.rpg;
+
+public class WindowStats {
+    static final WindowStats EMPTY = new WindowStats(0, 0, 0, 0, 0);
+
+    private final long volume;
+    private final long notional;
+    private final int tradeCount;
+    private final long minPrice;
+    private final long maxPrice;
+
+    public WindowStats(long volume, long notional, int tradeCount, long minPrice, long maxPrice) {
+        this.volume = volume;
+        this.notional = notional;
+        this.tradeCount = tradeCount;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public long getVolume() {
+        return volume;
+    }
+
+    public long getNotional() {
+        return notional;
+    }
+
+    public int getTradeCount() {
+        return tradeCount;
+    }
+
+    public double getVwap() {
+        return volume == 0 ? 0.0 : (double) notional / volume;
+    }
+
+    public long getMinPrice() {
+        return minPrice;
+    }
+
+    public long getMaxPrice() {
+        return maxPrice;
+    }
+}